@@ -0,0 +1,146 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class AdversarialWordleGame {
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private final int[] candidates;
+    private final int[] codes;
+    private final int[] bucketSizes;
+    private int candidateCount;
+    private int attemptsLeft;
+    private boolean gameOver;
+    private boolean won;
+
+    private final Set<String> usedWords;
+    private final List<String> guessHistory;
+    private final List<String> hintHistory;
+
+    public AdversarialWordleGame(WordleDictionary dictionary, PrintWriter log) {
+        if (dictionary.isEmpty()) {
+            throw new EmptyDictionaryException("Словарь пуст");
+        }
+        this.dictionary = dictionary;
+        this.log = log;
+        this.candidateCount = dictionary.size();
+        this.candidates = new int[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            candidates[i] = i;
+        }
+        this.codes = new int[candidateCount];
+        this.bucketSizes = new int[WordleDictionary.FEEDBACK_CODES];
+        this.attemptsLeft = WordleGame.MAX_ATTEMPTS;
+        this.gameOver = false;
+        this.won = false;
+
+        this.usedWords = new HashSet<>();
+        this.guessHistory = new ArrayList<>();
+        this.hintHistory = new ArrayList<>();
+
+        log.println("Адверсариальная игра начата, кандидатов: " + candidateCount);
+    }
+
+    public String makeGuess(String input) throws WordleException {
+        if (gameOver) {
+            throw new RuntimeException("Игра уже завершена");
+        }
+
+        String normalized = dictionary.requireGuess(input);
+
+        if (usedWords.contains(normalized)) {
+            throw new InvalidWordException("Это слово уже было использовано");
+        }
+
+        attemptsLeft--;
+        usedWords.add(normalized);
+        guessHistory.add(normalized);
+
+        int code = largestBucket(normalized);
+        int kept = 0;
+        for (int k = 0; k < candidateCount; k++) {
+            if (codes[k] == code) {
+                candidates[kept++] = candidates[k];
+            }
+        }
+        candidateCount = kept;
+
+        String hint = WordleDictionary.hintFromCode(code);
+        hintHistory.add(hint);
+
+        log.println("Попытка: " + normalized + " -> " + hint
+                + " (кандидатов: " + candidateCount + ", осталось: " + attemptsLeft + ")");
+
+        if (code == WordleDictionary.WINNING_CODE) {
+            gameOver = true;
+            won = true;
+            log.println("Победа!");
+        } else if (attemptsLeft <= 0) {
+            gameOver = true;
+            won = false;
+            candidateCount = 1;
+            log.println("Поражение. Загаданное слово: " + getAnswer());
+        }
+
+        return hint;
+    }
+
+    // Выбирает самую большую группу кандидатов; при равенстве - с меньшим кодом,
+    // выигрышный код выбирается только если других групп нет.
+    int largestBucket(String guess) {
+        int[] sizes = bucketSizes;
+        Arrays.fill(sizes, 0);
+        for (int k = 0; k < candidateCount; k++) {
+            int code = dictionary.feedbackCode(guess, candidates[k]);
+            codes[k] = code;
+            sizes[code]++;
+        }
+
+        int best = WordleDictionary.WINNING_CODE;
+        int bestSize = 0;
+        for (int code = 0; code < WordleDictionary.WINNING_CODE; code++) {
+            if (sizes[code] > bestSize) {
+                best = code;
+                bestSize = sizes[code];
+            }
+        }
+        return best;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public int getAttemptsLeft() {
+        return attemptsLeft;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    public String getAnswer() {
+        if (candidateCount != 1) {
+            return null;
+        }
+        return dictionary.getWord(candidates[0]);
+    }
+
+    public List<String> getGuessHistory() {
+        return new ArrayList<>(guessHistory);
+    }
+
+    public List<String> getHintHistory() {
+        return new ArrayList<>(hintHistory);
+    }
+}
@@ -0,0 +1,140 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Алфавит словаря: буквы с плотной нумерацией 0..size-1 и правила сведения
+// вариантов букв к основной (для русского ё -> е). Номер буквы ищется по таблице,
+// поэтому горячие пути остаются на массивах; номера помещаются в маску long.
+public final class Alphabet {
+
+    public static final int MAX_SIZE = 64;
+
+    public static final Alphabet RUSSIAN = new Alphabet("ru", "русских",
+            "абвгдежзийклмнопрстуфхцчшщъыьэюя", "ё", "е");
+    public static final Alphabet ENGLISH = new Alphabet("en", "английских",
+            "abcdefghijklmnopqrstuvwxyz", "", "");
+    public static final Alphabet UKRAINIAN = new Alphabet("uk", "украинских",
+            "абвгґдеєжзиіїйклмнопрстуфхцчшщьюя", "", "");
+
+    private static final List<Alphabet> ALL = List.of(RUSSIAN, ENGLISH, UKRAINIAN);
+
+    private final String name;
+    private final String formatMessage;
+    private final char[] letters;
+    private final String foldFrom;
+    private final String foldTo;
+    private final char first;
+    // Номер буквы по коду символа minus first; -1 - не буква алфавита.
+    private final byte[] indexes;
+    private final boolean[] canonical;
+
+    public Alphabet(String name, String adjective, String letters, String foldFrom, String foldTo) {
+        if (letters.isEmpty() || letters.length() > MAX_SIZE) {
+            throw new IllegalArgumentException("В алфавите должно быть от 1 до " + MAX_SIZE + " букв: " + name);
+        }
+        if (foldFrom.length() != foldTo.length()) {
+            throw new IllegalArgumentException("Правила замены букв заданы не парами: " + name);
+        }
+        this.name = name;
+        this.formatMessage = "Слово должно состоять из " + WordleDictionary.WORD_LENGTH + " " + adjective + " букв";
+        this.letters = letters.toCharArray();
+        this.foldFrom = foldFrom;
+        this.foldTo = foldTo;
+
+        String all = letters + foldFrom;
+        char min = Character.MAX_VALUE;
+        char max = 0;
+        for (int i = 0; i < all.length(); i++) {
+            min = (char) Math.min(min, all.charAt(i));
+            max = (char) Math.max(max, all.charAt(i));
+        }
+        this.first = min;
+        this.indexes = new byte[max - min + 1];
+        this.canonical = new boolean[max - min + 1];
+        Arrays.fill(indexes, (byte) -1);
+        for (int i = 0; i < letters.length(); i++) {
+            int slot = letters.charAt(i) - min;
+            if (indexes[slot] >= 0) {
+                throw new IllegalArgumentException("Буква повторяется в алфавите " + name + ": " + letters.charAt(i));
+            }
+            indexes[slot] = (byte) i;
+            canonical[slot] = true;
+        }
+        for (int i = 0; i < foldFrom.length(); i++) {
+            int target = letters.indexOf(foldTo.charAt(i));
+            int slot = foldFrom.charAt(i) - min;
+            if (target < 0 || indexes[slot] >= 0) {
+                throw new IllegalArgumentException("Неверное правило замены в алфавите " + name + ": "
+                        + foldFrom.charAt(i) + " -> " + foldTo.charAt(i));
+            }
+            indexes[slot] = (byte) target;
+        }
+    }
+
+    public static Alphabet forName(String name) {
+        for (Alphabet alphabet : ALL) {
+            if (alphabet.name.equals(name)) {
+                return alphabet;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный алфавит: " + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return letters.length;
+    }
+
+    public char letterAt(int index) {
+        return letters[index];
+    }
+
+    // Номер строчной буквы или её варианта; -1 для остальных символов.
+    public int indexOf(char c) {
+        int slot = c - first;
+        return slot >= 0 && slot < indexes.length ? indexes[slot] : -1;
+    }
+
+    // Буква алфавита, которую normalize оставляет как есть.
+    public boolean isCanonical(char c) {
+        int slot = c - first;
+        return slot >= 0 && slot < canonical.length && canonical[slot];
+    }
+
+    public String normalize(String word) {
+        if (word == null) {
+            return null;
+        }
+        String lower = word.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < foldFrom.length(); i++) {
+            lower = lower.replace(foldFrom.charAt(i), foldTo.charAt(i));
+        }
+        return lower;
+    }
+
+    public boolean isValidFormat(String word) {
+        if (word == null || word.length() != WordleDictionary.WORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (indexOf(word.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String getFormatMessage() {
+        return formatMessage;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
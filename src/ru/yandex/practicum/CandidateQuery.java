@@ -0,0 +1,153 @@
+package ru.yandex.practicum;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+// Ленивый результат фильтрации по подсказкам: слова проверяются блоками по мере
+// запроса, промежуточный список не строится.
+public final class CandidateQuery implements Iterable<String> {
+
+    private static final int BLOCK = 256;
+
+    interface Matcher {
+        // Отмечает в matches[0..to-from) подходящие слова с номерами from..to-1.
+        void mark(int from, int to, boolean[] matches);
+    }
+
+    private final WordleDictionary dictionary;
+    private final Matcher matcher;
+    // Использованные слова сверяются по номерам: у сжатого словаря getWord распаковывает блок.
+    private final int[] usedIds;
+
+    CandidateQuery(WordleDictionary dictionary, Matcher matcher, Set<String> usedWords) {
+        this.dictionary = dictionary;
+        this.matcher = matcher;
+        this.usedIds = dictionary.idsOf(usedWords);
+    }
+
+    public int count() {
+        Cursor cursor = new Cursor();
+        int count = 0;
+        while (cursor.next() >= 0) {
+            count++;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return new Cursor().next() < 0;
+    }
+
+    // Выбор за один проход резервуаром из одного элемента. Без весов - алгоритм L:
+    // номер следующей замены разыгрывается сразу, поэтому случайных чисел нужно
+    // O(log n), а не по одному на слово. С весами k-е слово заменяет выбранное
+    // с вероятностью w/W; при нулевой сумме весов выбор равномерный, как в chooseWeighted.
+    public String sample(Random random) {
+        long start = WordleMetrics.global().start();
+        boolean weighted = dictionary.isWeighted();
+        int count = 0;
+        int uniform = -1;
+        long nextPick = 1;
+        double threshold = 1;
+        double total = 0;
+        int chosen = -1;
+        Cursor cursor = new Cursor();
+        for (int id = cursor.next(); id >= 0; id = cursor.next()) {
+            count++;
+            if (count == nextPick) {
+                uniform = id;
+                threshold *= random.nextDouble();
+                nextPick = count + 1 + (long) Math.floor(Math.log(random.nextDouble()) / Math.log1p(-threshold));
+            }
+            if (weighted) {
+                double weight = dictionary.getWeight(id);
+                total += weight;
+                if (weight > 0 && random.nextDouble() * total < weight) {
+                    chosen = id;
+                }
+            }
+        }
+        WordleMetrics.global().recordFilter(start, count);
+
+        int result = total > 0 ? chosen : uniform;
+        return result < 0 ? null : dictionary.getWord(result);
+    }
+
+    public List<String> firstK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Количество слов не может быть отрицательным: " + k);
+        }
+        List<String> result = new ArrayList<>(Math.min(k, 16));
+        Cursor cursor = new Cursor();
+        while (result.size() < k) {
+            int id = cursor.next();
+            if (id < 0) {
+                break;
+            }
+            result.add(dictionary.getWord(id));
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private final Cursor cursor = new Cursor();
+            private int next = cursor.next();
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public String next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                String word = dictionary.getWord(next);
+                next = cursor.next();
+                return word;
+            }
+        };
+    }
+
+    private boolean isUsed(int id) {
+        for (int used : usedIds) {
+            if (used == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class Cursor {
+        private final boolean[] matches = new boolean[BLOCK];
+        private int blockStart;
+        private int blockEnd;
+        private int position;
+
+        // Номер следующего подходящего слова или -1.
+        int next() {
+            while (true) {
+                while (position < blockEnd) {
+                    int id = position++;
+                    if (matches[id - blockStart] && !isUsed(id)) {
+                        return id;
+                    }
+                }
+                if (blockEnd >= dictionary.size()) {
+                    return -1;
+                }
+                blockStart = blockEnd;
+                blockEnd = Math.min(dictionary.size(), blockStart + BLOCK);
+                matcher.mark(blockStart, blockEnd, matches);
+                position = blockStart;
+            }
+        }
+    }
+}
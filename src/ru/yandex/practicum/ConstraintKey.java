@@ -0,0 +1,91 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.Set;
+
+// Каноническое представление ограничений подсказок: буквы как битовые маски,
+// исключённые буквы - без тех, что обязательны (так же их трактует matchesHints).
+final class ConstraintKey {
+
+    private final char[] correct;
+    private final long[] wrong;
+    private final long required;
+    private final long excluded;
+    private final int hash;
+
+    private ConstraintKey(char[] correct, long[] wrong, long required, long excluded) {
+        this.correct = correct;
+        this.wrong = wrong;
+        this.required = required;
+        this.excluded = excluded;
+        int h = Arrays.hashCode(correct);
+        h = 31 * h + Arrays.hashCode(wrong);
+        h = 31 * h + Long.hashCode(required * 0x9E3779B97F4A7C15L);
+        h = 31 * h + Long.hashCode(excluded * 0xC2B2AE3D27D4EB4FL);
+        this.hash = h ^ (h >>> 16);
+    }
+
+    static ConstraintKey of(Alphabet alphabet, GameState state) {
+        return of(alphabet, state.getExcludedChars(), state.getRequiredChars(),
+                state.getCorrectPositions(), state.getWrongPositions());
+    }
+
+    static ConstraintKey of(Alphabet alphabet, Set<Character> excludedChars, Set<Character> requiredChars,
+                            char[] correctPositions, Set<Character>[] wrongPositions) {
+        long[] wrong = new long[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            wrong[i] = mask(alphabet, wrongPositions[i]);
+        }
+        long required = mask(alphabet, requiredChars);
+        long excluded = mask(alphabet, excludedChars) & ~required;
+        return new ConstraintKey(correctPositions.clone(), wrong, required, excluded);
+    }
+
+    private static long mask(Alphabet alphabet, Set<Character> letters) {
+        long mask = 0;
+        if (letters == null) {
+            return mask;
+        }
+        for (char c : letters) {
+            int letter = alphabet.indexOf(c);
+            if (letter >= 0) {
+                mask |= 1L << letter;
+            }
+        }
+        return mask;
+    }
+
+    char getCorrect(int position) {
+        return correct[position];
+    }
+
+    long getWrong(int position) {
+        return wrong[position];
+    }
+
+    long getRequired() {
+        return required;
+    }
+
+    long getExcluded() {
+        return excluded;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConstraintKey)) {
+            return false;
+        }
+        ConstraintKey other = (ConstraintKey) o;
+        return hash == other.hash && required == other.required && excluded == other.excluded
+                && Arrays.equals(correct, other.correct) && Arrays.equals(wrong, other.wrong);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
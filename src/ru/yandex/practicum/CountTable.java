@@ -0,0 +1,80 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CountTable {
+
+    private final List<String> rowLabels;
+    private final List<String> columnLabels;
+    private final long[] values;
+
+    CountTable(List<String> rowLabels, List<String> columnLabels, long[] values) {
+        if (values.length != rowLabels.size() * columnLabels.size()) {
+            throw new IllegalArgumentException("Размер таблицы не совпадает с количеством строк и столбцов");
+        }
+        this.rowLabels = Collections.unmodifiableList(rowLabels);
+        this.columnLabels = Collections.unmodifiableList(columnLabels);
+        this.values = values.clone();
+    }
+
+    public long get(int row, int column) {
+        return values[row * columnLabels.size() + column];
+    }
+
+    public long getRowTotal(int row) {
+        long total = 0;
+        for (int column = 0; column < columnLabels.size(); column++) {
+            total += get(row, column);
+        }
+        return total;
+    }
+
+    public long getTotal() {
+        return Arrays.stream(values).sum();
+    }
+
+    public int getRowCount() {
+        return rowLabels.size();
+    }
+
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+
+    public List<String> getRowLabels() {
+        return rowLabels;
+    }
+
+    public List<String> getColumnLabels() {
+        return columnLabels;
+    }
+
+    public void writeCsv(Appendable out) {
+        try {
+            out.append("row");
+            for (String column : columnLabels) {
+                out.append(',').append(column);
+            }
+            out.append('\n');
+            for (int row = 0; row < rowLabels.size(); row++) {
+                out.append(rowLabels.get(row));
+                for (int column = 0; column < columnLabels.size(); column++) {
+                    out.append(',').append(Long.toString(get(row, column)));
+                }
+                out.append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ошибка записи CSV", e);
+        }
+    }
+
+    public String toCsv() {
+        StringBuilder out = new StringBuilder();
+        writeCsv(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package ru.yandex.practicum;
+
+import java.time.LocalDate;
+
+public class DailyWordScheduler {
+
+    private static final int ROUNDS = 4;
+
+    private final WordleDictionary dictionary;
+    private final long key;
+    private final int size;
+    private final int halfBits;
+    private final int halfMask;
+
+    public DailyWordScheduler(WordleDictionary dictionary, long key) {
+        if (dictionary.isEmpty()) {
+            throw new EmptyDictionaryException("Словарь пуст");
+        }
+        this.dictionary = dictionary;
+        this.key = key;
+        this.size = dictionary.size();
+
+        int bits = 2;
+        while ((1L << bits) < size) {
+            bits++;
+        }
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1 << halfBits) - 1;
+    }
+
+    public String getWordForDate(LocalDate date) {
+        return getWord(date.toEpochDay());
+    }
+
+    public String getWord(long seed) {
+        return dictionary.getWord(indexFor(seed));
+    }
+
+    // Каждые size подряд идущих значений seed дают перестановку всего словаря,
+    // следующий цикл перемешивается другим ключом.
+    public int indexFor(long seed) {
+        long cycle = Math.floorDiv(seed, size);
+        int position = (int) Math.floorMod(seed, (long) size);
+        long cycleKey = mix(key ^ mix(cycle));
+
+        int value = position;
+        do {
+            value = permute(value, cycleKey);
+        } while (value >= size);
+        return value;
+    }
+
+    private int permute(int value, long cycleKey) {
+        int left = value >>> halfBits;
+        int right = value & halfMask;
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ (int) (mix(cycleKey + round * 0x9E3779B97F4A7C15L + right) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
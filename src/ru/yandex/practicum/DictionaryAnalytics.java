@@ -0,0 +1,168 @@
+package ru.yandex.practicum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class DictionaryAnalytics {
+
+    private static final int THRESHOLD = 512;
+
+    private final List<String> words;
+    private final Alphabet alphabet;
+    private final ForkJoinPool pool;
+
+    public DictionaryAnalytics(WordleDictionary dictionary) {
+        this(dictionary.getWords(), dictionary.getAlphabet(), ForkJoinPool.commonPool());
+    }
+
+    public DictionaryAnalytics(List<String> words) {
+        this(words, ForkJoinPool.commonPool());
+    }
+
+    public DictionaryAnalytics(List<String> words, ForkJoinPool pool) {
+        this(words, Alphabet.RUSSIAN, pool);
+    }
+
+    public DictionaryAnalytics(List<String> words, Alphabet alphabet, ForkJoinPool pool) {
+        this.words = new ArrayList<>(words);
+        this.alphabet = alphabet;
+        this.pool = pool;
+    }
+
+    public CountTable letterFrequencyByPosition() {
+        int maxLength = 0;
+        for (String word : words) {
+            maxLength = Math.max(maxLength, word.length());
+        }
+        int positions = maxLength;
+        int size = alphabet.size();
+        long[] counts = reduce(positions * size, (from, to, acc) -> {
+            for (int id = from; id < to; id++) {
+                String word = words.get(id);
+                for (int i = 0; i < word.length(); i++) {
+                    int letter = alphabet.indexOf(word.charAt(i));
+                    if (letter >= 0) {
+                        acc[i * size + letter]++;
+                    }
+                }
+            }
+        });
+
+        List<String> rows = new ArrayList<>();
+        for (int i = 1; i <= positions; i++) {
+            rows.add(String.valueOf(i));
+        }
+        return new CountTable(rows, letterLabels(), counts);
+    }
+
+    public CountTable bigramCounts() {
+        int size = alphabet.size();
+        long[] counts = reduce(size * size, (from, to, acc) -> {
+            for (int id = from; id < to; id++) {
+                String word = words.get(id);
+                int previous = -1;
+                for (int i = 0; i < word.length(); i++) {
+                    int letter = alphabet.indexOf(word.charAt(i));
+                    if (previous >= 0 && letter >= 0) {
+                        acc[previous * size + letter]++;
+                    }
+                    previous = letter;
+                }
+            }
+        });
+        return new CountTable(letterLabels(), letterLabels(), counts);
+    }
+
+    // Распределение подсказок для одного слова против всех ответов из словаря.
+    public CountTable hintPatternDistribution(String guess) {
+        String normalized = alphabet.normalize(guess);
+        if (!alphabet.isValidFormat(normalized)) {
+            throw new IllegalArgumentException(alphabet.getFormatMessage() + ": " + guess);
+        }
+        long[] counts = reduce(WordleDictionary.FEEDBACK_CODES, (from, to, acc) -> {
+            for (int id = from; id < to; id++) {
+                String answer = words.get(id);
+                if (answer.length() == WordleDictionary.WORD_LENGTH) {
+                    acc[WordleDictionary.feedbackCode(normalized, answer)]++;
+                }
+            }
+        });
+        return new CountTable(List.of(normalized), hintLabels(), counts);
+    }
+
+    // Распределение подсказок по всем парам (догадка, ответ) из словаря.
+    public CountTable hintPatternDistribution() {
+        long[] counts = reduce(WordleDictionary.FEEDBACK_CODES, (from, to, acc) -> {
+            for (int id = from; id < to; id++) {
+                String guess = words.get(id);
+                if (guess.length() != WordleDictionary.WORD_LENGTH) {
+                    continue;
+                }
+                for (String answer : words) {
+                    if (answer.length() == WordleDictionary.WORD_LENGTH) {
+                        acc[WordleDictionary.feedbackCode(guess, answer)]++;
+                    }
+                }
+            }
+        });
+        return new CountTable(List.of("all"), hintLabels(), counts);
+    }
+
+    private long[] reduce(int width, RangeCounter counter) {
+        return pool.invoke(new RangeTask(0, words.size(), width, counter));
+    }
+
+    private List<String> letterLabels() {
+        List<String> labels = new ArrayList<>();
+        for (int i = 0; i < alphabet.size(); i++) {
+            labels.add(String.valueOf(alphabet.letterAt(i)));
+        }
+        return labels;
+    }
+
+    private static List<String> hintLabels() {
+        List<String> labels = new ArrayList<>();
+        for (int code = 0; code < WordleDictionary.FEEDBACK_CODES; code++) {
+            labels.add(WordleDictionary.hintFromCode(code));
+        }
+        return labels;
+    }
+
+    private interface RangeCounter {
+        void count(int from, int to, long[] acc);
+    }
+
+    private static class RangeTask extends RecursiveTask<long[]> {
+        private final int from;
+        private final int to;
+        private final int width;
+        private final RangeCounter counter;
+
+        RangeTask(int from, int to, int width, RangeCounter counter) {
+            this.from = from;
+            this.to = to;
+            this.width = width;
+            this.counter = counter;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= THRESHOLD) {
+                long[] acc = new long[width];
+                counter.count(from, to, acc);
+                return acc;
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(from, middle, width, counter);
+            left.fork();
+            long[] right = new RangeTask(middle, to, width, counter).compute();
+            long[] result = left.join();
+            for (int i = 0; i < width; i++) {
+                result[i] += right[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ru.yandex.practicum.DictionaryLoad")
+@Label("Dictionary Load")
+@Category("Wordle")
+@Description("Загрузка словаря из файла")
+class DictionaryLoadEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Words Read")
+    int wordsRead;
+
+    @Label("Words Kept")
+    int wordsKept;
+}
@@ -0,0 +1,132 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Готовый к загрузке словарь: только отобранные слова в виде номеров букв алфавита
+// и веса, без разбора, нормализации и проверки текстового файла на каждом старте.
+public final class DictionarySnapshot {
+
+    private static final int MAGIC = 0x57445348;
+    private static final int VERSION = 1;
+
+    private DictionarySnapshot() {
+    }
+
+    public static void write(WordleDictionary dictionary, OutputStream out) throws IOException {
+        Alphabet alphabet = dictionary.getAlphabet();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(alphabet.getName());
+        data.writeInt(dictionary.size());
+        data.writeBoolean(dictionary.isWeighted());
+        byte[] letters = new byte[WordleDictionary.WORD_LENGTH];
+        for (int id = 0; id < dictionary.size(); id++) {
+            String word = dictionary.getWord(id);
+            if (!alphabet.isValidFormat(word) || !word.equals(alphabet.normalize(word))) {
+                throw new IOException("Слово не помещается в снимок словаря: " + word);
+            }
+            for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+                letters[i] = (byte) alphabet.indexOf(word.charAt(i));
+            }
+            data.write(letters);
+        }
+        if (dictionary.isWeighted()) {
+            for (int id = 0; id < dictionary.size(); id++) {
+                data.writeDouble(dictionary.getWeight(id));
+            }
+        }
+        data.flush();
+    }
+
+    // Пишет во временный файл рядом и переименовывает: параллельно стартующие процессы
+    // видят либо старый снимок, либо новый целиком.
+    public static void save(WordleDictionary dictionary, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(dictionary, out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static WordleDictionary read(InputStream in, Alphabet alphabet, PrintWriter log) throws IOException {
+        return read(in, alphabet, false, log);
+    }
+
+    // compressed - собрать словарь со сжатым хранением слов (WordleDictionary.compressed).
+    public static WordleDictionary read(InputStream in, Alphabet alphabet, boolean compressed, PrintWriter log)
+            throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readUnsignedByte() != VERSION) {
+            throw new IOException("Неизвестный формат снимка словаря");
+        }
+        String name = data.readUTF();
+        if (!name.equals(alphabet.getName())) {
+            throw new IOException("Снимок словаря сделан для алфавита " + name + ", ожидался " + alphabet.getName());
+        }
+        int size = data.readInt();
+        if (size <= 0) {
+            throw new IOException("Пустой снимок словаря");
+        }
+        boolean weighted = data.readBoolean();
+
+        List<String> words = new ArrayList<>(size);
+        byte[] letters = new byte[WordleDictionary.WORD_LENGTH];
+        char[] word = new char[WordleDictionary.WORD_LENGTH];
+        for (int id = 0; id < size; id++) {
+            data.readFully(letters);
+            for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+                if (letters[i] < 0 || letters[i] >= alphabet.size()) {
+                    throw new IOException("Повреждённый снимок словаря: неизвестная буква в слове " + id);
+                }
+                word[i] = alphabet.letterAt(letters[i]);
+            }
+            words.add(new String(word));
+        }
+        double[] weights = null;
+        if (weighted) {
+            weights = new double[size];
+            for (int id = 0; id < size; id++) {
+                weights[id] = data.readDouble();
+                if (!(weights[id] >= 0)) {
+                    throw new IOException("Повреждённый снимок словаря: неверный вес слова " + id);
+                }
+            }
+        }
+        if (data.read() != -1) {
+            throw new IOException("Повреждённый снимок словаря: лишние данные в конце");
+        }
+
+        log.println("Загружено слов из снимка: " + size);
+        return compressed ? WordleDictionary.compressed(words, weights, alphabet, log)
+                : new WordleDictionary(words, weights, alphabet, log);
+    }
+
+    public static WordleDictionary load(Path file, Alphabet alphabet, PrintWriter log) throws IOException {
+        return load(file, alphabet, false, log);
+    }
+
+    public static WordleDictionary load(Path file, Alphabet alphabet, boolean compressed, PrintWriter log)
+            throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, alphabet, compressed, log);
+        }
+    }
+}
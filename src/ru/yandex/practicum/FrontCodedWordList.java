@@ -0,0 +1,272 @@
+package ru.yandex.practicum;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+// Неизменяемый сжатый список слов: слова отсортированы по номерам букв и разбиты на блоки
+// по BLOCK_SIZE. Первое слово блока хранится целиком, остальные - как длина общего
+// с предыдущим словом префикса (3 бита) и оставшиеся буквы (по bitsPerLetter бит).
+// Слово восстанавливается распаковкой не больше одного блока, поиск - двоичный по первым
+// словам блоков и проход внутри блока; строки создаются только по запросу.
+final class FrontCodedWordList extends AbstractList<String> implements RandomAccess {
+
+    static final int BLOCK_SIZE = 16;
+    private static final int PREFIX_BITS = 3;
+
+    private final Alphabet alphabet;
+    private final int size;
+    private final int bitsPerLetter;
+    private final long[] bits;
+    // Начало каждого блока в bits и первое слово блока в виде ключа.
+    private final long[] blockOffsets;
+    private final int[] blockHeads;
+
+    private FrontCodedWordList(Alphabet alphabet, int size, int bitsPerLetter, long[] bits,
+                               long[] blockOffsets, int[] blockHeads) {
+        this.alphabet = alphabet;
+        this.size = size;
+        this.bitsPerLetter = bitsPerLetter;
+        this.bits = bits;
+        this.blockOffsets = blockOffsets;
+        this.blockHeads = blockHeads;
+    }
+
+    // Слова должны быть нормализованы и идти без повторов в порядке orderKey.
+    static FrontCodedWordList build(List<String> sortedWords, Alphabet alphabet) {
+        int bitsPerLetter = bitsPerLetter(alphabet);
+        int blocks = (sortedWords.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] blockOffsets = new long[blocks];
+        int[] blockHeads = new int[blocks];
+        BitWriter writer = new BitWriter(sortedWords.size() * (long) WordleDictionary.WORD_LENGTH * bitsPerLetter);
+
+        int previous = -1;
+        for (int id = 0; id < sortedWords.size(); id++) {
+            int key = canonicalKey(sortedWords.get(id), alphabet, bitsPerLetter);
+            if (key < 0) {
+                throw new IllegalArgumentException("Слово не подходит для сжатого словаря: " + sortedWords.get(id));
+            }
+            if (previous >= 0 && key <= previous) {
+                throw new IllegalArgumentException("Слова сжатого словаря должны быть упорядочены и без повторов: "
+                        + sortedWords.get(id));
+            }
+            if (id % BLOCK_SIZE == 0) {
+                blockOffsets[id / BLOCK_SIZE] = writer.position;
+                blockHeads[id / BLOCK_SIZE] = key;
+                writer.write(key, WordleDictionary.WORD_LENGTH * bitsPerLetter);
+            } else {
+                int prefix = commonPrefix(previous, key, bitsPerLetter);
+                int suffixBits = (WordleDictionary.WORD_LENGTH - prefix) * bitsPerLetter;
+                writer.write(prefix, PREFIX_BITS);
+                writer.write(key & ((1 << suffixBits) - 1), suffixBits);
+            }
+            previous = key;
+        }
+        return new FrontCodedWordList(alphabet, sortedWords.size(), bitsPerLetter, writer.toArray(),
+                blockOffsets, blockHeads);
+    }
+
+    // Ключ порядка, в котором build ожидает слова: по номерам букв алфавита, а не по кодам
+    // символов; -1, если слово нельзя сохранить.
+    static int orderKey(String word, Alphabet alphabet) {
+        return canonicalKey(word, alphabet, bitsPerLetter(alphabet));
+    }
+
+    @Override
+    public String get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Нет слова с номером " + id + ", слов: " + size);
+        }
+        Decoder decoder = new Decoder(id / BLOCK_SIZE);
+        for (int i = id % BLOCK_SIZE; i > 0; i--) {
+            decoder.next();
+        }
+        return word(decoder.key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        if (!(value instanceof String)) {
+            return -1;
+        }
+        int key = canonicalKey((String) value, alphabet, bitsPerLetter);
+        if (key < 0) {
+            return -1;
+        }
+        int block = Arrays.binarySearch(blockHeads, key);
+        if (block >= 0) {
+            return block * BLOCK_SIZE;
+        }
+        block = -block - 2;
+        if (block < 0) {
+            return -1;
+        }
+        Decoder decoder = new Decoder(block);
+        int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+        for (int id = block * BLOCK_SIZE + 1; id < end; id++) {
+            decoder.next();
+            if (decoder.key >= key) {
+                return decoder.key == key ? id : -1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object value) {
+        return indexOf(value);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    // Последовательный обход распаковывает каждое слово один раз.
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+            private Decoder decoder;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public String next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (next % BLOCK_SIZE == 0) {
+                    decoder = new Decoder(next / BLOCK_SIZE);
+                } else {
+                    decoder.next();
+                }
+                next++;
+                return word(decoder.key);
+            }
+        };
+    }
+
+    // Занимаемая память без заголовков объектов.
+    long sizeInBytes() {
+        return bits.length * 8L + blockOffsets.length * 8L + blockHeads.length * 4L;
+    }
+
+    private String word(int key) {
+        char[] word = new char[WordleDictionary.WORD_LENGTH];
+        for (int i = WordleDictionary.WORD_LENGTH - 1; i >= 0; i--) {
+            word[i] = alphabet.letterAt(key & ((1 << bitsPerLetter) - 1));
+            key >>>= bitsPerLetter;
+        }
+        return new String(word);
+    }
+
+    // Первая буква - в старших битах, поэтому порядок ключей совпадает с порядком слов.
+    private static int key(String word, Alphabet alphabet, int bitsPerLetter) {
+        if (word == null || word.length() != WordleDictionary.WORD_LENGTH) {
+            return -1;
+        }
+        int key = 0;
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            int letter = alphabet.indexOf(word.charAt(i));
+            if (letter < 0) {
+                return -1;
+            }
+            key = (key << bitsPerLetter) | letter;
+        }
+        return key;
+    }
+
+    // Варианты букв (ё) сворачиваются в ключе, но в списке хранятся только основные буквы.
+    private static int canonicalKey(String word, Alphabet alphabet, int bitsPerLetter) {
+        int key = key(word, alphabet, bitsPerLetter);
+        for (int i = 0; key >= 0 && i < WordleDictionary.WORD_LENGTH; i++) {
+            if (!alphabet.isCanonical(word.charAt(i))) {
+                return -1;
+            }
+        }
+        return key;
+    }
+
+    private static int commonPrefix(int a, int b, int bitsPerLetter) {
+        int prefix = 0;
+        for (int i = WordleDictionary.WORD_LENGTH - 1; i >= 0; i--) {
+            int shift = i * bitsPerLetter;
+            if ((a >>> shift) != (b >>> shift)) {
+                break;
+            }
+            prefix++;
+        }
+        return prefix;
+    }
+
+    private static int bitsPerLetter(Alphabet alphabet) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(alphabet.size() - 1));
+    }
+
+    private long read(long position, int count) {
+        int word = (int) (position >>> 6);
+        int offset = (int) (position & 63);
+        long value = bits[word] >>> offset;
+        if (offset + count > 64) {
+            value |= bits[word + 1] << (64 - offset);
+        }
+        return value & ((1L << count) - 1);
+    }
+
+    // Идёт по словам одного блока, начиная с первого.
+    private final class Decoder {
+        private long position;
+        private int key;
+
+        Decoder(int block) {
+            position = blockOffsets[block] + WordleDictionary.WORD_LENGTH * bitsPerLetter;
+            key = blockHeads[block];
+        }
+
+        void next() {
+            int prefix = (int) read(position, PREFIX_BITS);
+            int suffixBits = (WordleDictionary.WORD_LENGTH - prefix) * bitsPerLetter;
+            int suffix = (int) read(position + PREFIX_BITS, suffixBits);
+            position += PREFIX_BITS + suffixBits;
+            key = (key >>> suffixBits << suffixBits) | suffix;
+        }
+    }
+
+    private static final class BitWriter {
+        private long[] bits;
+        private long position;
+
+        BitWriter(long expectedBits) {
+            bits = new long[(int) Math.max(1, (expectedBits + 63) >>> 6)];
+        }
+
+        void write(long value, int count) {
+            int word = (int) (position >>> 6);
+            int offset = (int) (position & 63);
+            if (word + 1 >= bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(word + 2, bits.length * 2));
+            }
+            bits[word] |= value << offset;
+            if (offset + count > 64) {
+                bits[word + 1] |= value >>> (64 - offset);
+            }
+            position += count;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(bits, (int) ((position + 63) >>> 6));
+        }
+    }
+}
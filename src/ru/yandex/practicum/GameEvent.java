@@ -0,0 +1,80 @@
+package ru.yandex.practicum;
+
+// Событие партии для подписчиков WordleGame.events() и GameSession.events().
+// Неизменяемо, поэтому одно и то же событие безопасно отдаётся всем подписчикам.
+public final class GameEvent {
+
+    public enum Type {
+        GUESS, HINT, WIN, LOSS
+    }
+
+    private final String sessionId;
+    private final Type type;
+    private final String guess;
+    private final String hint;
+    private final int attempt;
+    private final int attemptsLeft;
+    private final String answer;
+
+    GameEvent(String sessionId, Type type, String guess, String hint, int attempt, int attemptsLeft, String answer) {
+        this.sessionId = sessionId;
+        this.type = type;
+        this.guess = guess;
+        this.hint = hint;
+        this.attempt = attempt;
+        this.attemptsLeft = attemptsLeft;
+        this.answer = answer;
+    }
+
+    GameEvent withSessionId(String sessionId) {
+        return new GameEvent(sessionId, type, guess, hint, attempt, attemptsLeft, answer);
+    }
+
+    // null для событий самой партии без сессии.
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getGuess() {
+        return guess;
+    }
+
+    // Только у HINT, WIN и LOSS.
+    public String getHint() {
+        return hint;
+    }
+
+    // Номер попытки с единицы; по нему упорядочиваются события параллельных попыток.
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public int getAttemptsLeft() {
+        return attemptsLeft;
+    }
+
+    // Только у WIN и LOSS.
+    public String getAnswer() {
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (sessionId != null) {
+            text.append(sessionId).append(": ");
+        }
+        text.append(type).append(" #").append(attempt).append(' ').append(guess);
+        if (hint != null) {
+            text.append(" -> ").append(hint);
+        }
+        if (answer != null) {
+            text.append(", слово ").append(answer);
+        }
+        return text.toString();
+    }
+}
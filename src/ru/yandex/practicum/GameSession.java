@@ -0,0 +1,88 @@
+package ru.yandex.practicum;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+public class GameSession {
+
+    public static final double DEFAULT_GUESSES_PER_SECOND = 5;
+    public static final int DEFAULT_BURST = 10;
+
+    private final String id;
+    private final WordleGame game;
+    private final TokenBucket limiter;
+    private SessionEvents events;
+
+    public GameSession(String id, WordleGame game) {
+        this(id, game, new TokenBucket(DEFAULT_GUESSES_PER_SECOND, DEFAULT_BURST));
+    }
+
+    public GameSession(String id, WordleGame game, TokenBucket limiter) {
+        this.id = id;
+        this.game = game;
+        this.limiter = limiter;
+    }
+
+    public String makeGuess(String input) throws WordleException {
+        if (!limiter.tryAcquire()) {
+            throw new RateLimitExceededException(id);
+        }
+        return game.makeGuess(input);
+    }
+
+    public String getSuggestion() {
+        return game.getSuggestion();
+    }
+
+    // События партии с номером сессии; завершаются вместе с партией.
+    public synchronized Flow.Publisher<GameEvent> events() {
+        if (events == null) {
+            events = new SessionEvents(id);
+            game.events().subscribe(events);
+        }
+        return events;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public WordleGame getGame() {
+        return game;
+    }
+
+    // Переписывает события партии с номером сессии. Следующее событие запрашивается только
+    // после того, как предыдущее принято подписчиками сессии, поэтому их темп доходит до партии.
+    private static final class SessionEvents extends SubmissionPublisher<GameEvent>
+            implements Flow.Processor<GameEvent, GameEvent> {
+
+        private final String sessionId;
+        private Flow.Subscription subscription;
+
+        SessionEvents(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(GameEvent event) {
+            submit(event.withSessionId(sessionId));
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            closeExceptionally(error);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+}
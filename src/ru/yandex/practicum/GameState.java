@@ -0,0 +1,160 @@
+package ru.yandex.practicum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Неизменяемый снимок состояния игры: WordleGame заменяет его целиком через CAS.
+final class GameState {
+
+    private final int attemptsLeft;
+    private final boolean gameOver;
+    private final boolean won;
+
+    private final Set<Character> excludedChars;
+    private final Set<Character> requiredChars;
+    private final char[] correctPositions;
+    private final Set<Character>[] wrongPositions;
+    private final Set<String> usedWords;
+    private final List<String> guessHistory;
+    private final List<String> hintHistory;
+
+    private GameState(int attemptsLeft, boolean gameOver, boolean won,
+                      Set<Character> excludedChars, Set<Character> requiredChars,
+                      char[] correctPositions, Set<Character>[] wrongPositions,
+                      Set<String> usedWords, List<String> guessHistory, List<String> hintHistory) {
+        this.attemptsLeft = attemptsLeft;
+        this.gameOver = gameOver;
+        this.won = won;
+        this.excludedChars = excludedChars;
+        this.requiredChars = requiredChars;
+        this.correctPositions = correctPositions;
+        this.wrongPositions = wrongPositions;
+        this.usedWords = usedWords;
+        this.guessHistory = guessHistory;
+        this.hintHistory = hintHistory;
+    }
+
+    @SuppressWarnings("unchecked")
+    static GameState initial(int attempts) {
+        Set<Character>[] wrongPositions = new Set[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            wrongPositions[i] = Collections.emptySet();
+        }
+        return new GameState(attempts, false, false,
+                Collections.emptySet(), Collections.emptySet(),
+                new char[WordleDictionary.WORD_LENGTH], wrongPositions,
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    GameState withGuess(String guess, String hint) {
+        Set<Character> excluded = new HashSet<>(excludedChars);
+        Set<Character> required = new HashSet<>(requiredChars);
+        char[] correct = correctPositions.clone();
+        Set<Character>[] wrong = wrongPositions.clone();
+
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            char c = guess.charAt(i);
+            char h = hint.charAt(i);
+
+            if (h == '+') {
+                correct[i] = c;
+                required.add(c);
+            } else if (h == '^') {
+                required.add(c);
+                if (!wrong[i].contains(c)) {
+                    Set<Character> position = new HashSet<>(wrong[i]);
+                    position.add(c);
+                    wrong[i] = Collections.unmodifiableSet(position);
+                }
+            } else {
+                excluded.add(c);
+            }
+        }
+
+        Set<String> used = new HashSet<>(usedWords);
+        used.add(guess);
+        List<String> guesses = new ArrayList<>(guessHistory);
+        guesses.add(guess);
+        List<String> hints = new ArrayList<>(hintHistory);
+        hints.add(hint);
+
+        boolean winning = WordleDictionary.isWinningHint(hint);
+        int left = attemptsLeft - 1;
+        return new GameState(left, winning || left <= 0, winning,
+                Collections.unmodifiableSet(excluded), Collections.unmodifiableSet(required),
+                correct, wrong, Collections.unmodifiableSet(used),
+                Collections.unmodifiableList(guesses), Collections.unmodifiableList(hints));
+    }
+
+    void checkHardMode(String guess) throws HardModeViolationException {
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            char c = guess.charAt(i);
+            if (correctPositions[i] != 0 && correctPositions[i] != c) {
+                throw new HardModeViolationException(
+                        "на позиции " + (i + 1) + " должна стоять буква '" + correctPositions[i] + "'");
+            }
+            if (wrongPositions[i].contains(c)) {
+                throw new HardModeViolationException(
+                        "буква '" + c + "' не может стоять на позиции " + (i + 1));
+            }
+        }
+
+        for (char c : requiredChars) {
+            if (guess.indexOf(c) == -1) {
+                throw new HardModeViolationException("слово должно содержать букву '" + c + "'");
+            }
+        }
+
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            char c = guess.charAt(i);
+            if (excludedChars.contains(c) && !requiredChars.contains(c)) {
+                throw new HardModeViolationException("буквы '" + c + "' нет в загаданном слове");
+            }
+        }
+    }
+
+    int getAttemptsLeft() {
+        return attemptsLeft;
+    }
+
+    boolean isGameOver() {
+        return gameOver;
+    }
+
+    boolean isWon() {
+        return won;
+    }
+
+    Set<Character> getExcludedChars() {
+        return excludedChars;
+    }
+
+    Set<Character> getRequiredChars() {
+        return requiredChars;
+    }
+
+    // Массивы не изменяются после публикации снимка; наружу отдаются только внутри пакета.
+    char[] getCorrectPositions() {
+        return correctPositions;
+    }
+
+    Set<Character>[] getWrongPositions() {
+        return wrongPositions;
+    }
+
+    Set<String> getUsedWords() {
+        return usedWords;
+    }
+
+    List<String> getGuessHistory() {
+        return guessHistory;
+    }
+
+    List<String> getHintHistory() {
+        return hintHistory;
+    }
+}
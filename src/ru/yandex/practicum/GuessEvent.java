@@ -0,0 +1,26 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ru.yandex.practicum.Guess")
+@Label("Guess")
+@Category("Wordle")
+@Description("Попытка угадать слово в WordleGame.makeGuess")
+class GuessEvent extends Event {
+
+    @Label("Guess")
+    String guess;
+
+    @Label("Feedback")
+    String feedback;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    @Label("Attempts Left")
+    int attemptsLeft;
+}
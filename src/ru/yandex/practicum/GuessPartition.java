@@ -0,0 +1,124 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+// Разбиение оставшихся кандидатов по подсказке, которую дала бы попытка guess:
+// размер группы для каждого кода подсказки и, если запрошены, сами слова групп.
+public final class GuessPartition {
+
+    private final String guess;
+    private final int candidateCount;
+    private final int[] sizes;
+    private final String[][] members;
+    private final int groupCount;
+    private final int largestGroup;
+    private final long sumOfSquares;
+
+    GuessPartition(String guess, int candidateCount, int[] sizes, String[][] members) {
+        this.guess = guess;
+        this.candidateCount = candidateCount;
+        this.sizes = sizes;
+        this.members = members;
+        int groups = 0;
+        int largest = 0;
+        long squares = 0;
+        for (int size : sizes) {
+            if (size > 0) {
+                groups++;
+                largest = Math.max(largest, size);
+                squares += (long) size * size;
+            }
+        }
+        this.groupCount = groups;
+        this.largestGroup = largest;
+        this.sumOfSquares = squares;
+    }
+
+    public String getGuess() {
+        return guess;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    public int getSize(int code) {
+        return sizes[code];
+    }
+
+    public int getSize(String hint) {
+        return sizes[WordleDictionary.codeFromHint(hint)];
+    }
+
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    public int getLargestGroup() {
+        return largestGroup;
+    }
+
+    // Сколько кандидатов в среднем останется после попытки, если ответ равновероятен среди них.
+    public double getExpectedRemaining() {
+        return candidateCount == 0 ? 0 : (double) sumOfSquares / candidateCount;
+    }
+
+    // Сколько бит информации в среднем даёт подсказка.
+    public double getEntropy() {
+        double entropy = 0;
+        for (int size : sizes) {
+            if (size > 0) {
+                double p = (double) size / candidateCount;
+                entropy -= p * Math.log(p);
+            }
+        }
+        return entropy / Math.log(2);
+    }
+
+    // Попытка сама может оказаться ответом.
+    public boolean isCandidate() {
+        return sizes[WordleDictionary.WINNING_CODE] > 0;
+    }
+
+    // Коды непустых групп от большей группы к меньшей.
+    public int[] getCodes() {
+        long[] order = new long[groupCount];
+        int i = 0;
+        for (int code = 0; code < sizes.length; code++) {
+            if (sizes[code] > 0) {
+                order[i++] = ((long) (Integer.MAX_VALUE - sizes[code]) << 32) | code;
+            }
+        }
+        Arrays.sort(order);
+        int[] codes = new int[groupCount];
+        for (i = 0; i < codes.length; i++) {
+            codes[i] = (int) order[i];
+        }
+        return codes;
+    }
+
+    public boolean hasMembers() {
+        return members != null;
+    }
+
+    public List<String> getMembers(int code) {
+        if (members == null) {
+            throw new IllegalStateException("Слова групп не запрашивались");
+        }
+        return members[code] == null ? Collections.emptyList()
+                : Collections.unmodifiableList(Arrays.asList(members[code]));
+    }
+
+    public List<String> getMembers(String hint) {
+        return getMembers(WordleDictionary.codeFromHint(hint));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s: кандидатов %d, групп %d, наибольшая %d, останется в среднем %.2f",
+                guess, candidateCount, groupCount, largestGroup, getExpectedRemaining());
+    }
+}
@@ -0,0 +1,48 @@
+package ru.yandex.practicum;
+
+import java.util.Collections;
+import java.util.List;
+
+// Лучшие попытки по качеству разбиения (GuessPartition) и то, сколько попыток успели
+// оценить за отведённое время. Без слов групп: их можно запросить через WordleGame.partition.
+public final class GuessRanking {
+
+    private final List<GuessPartition> partitions;
+    private final int evaluated;
+    private final int total;
+    private final long elapsedNanos;
+
+    GuessRanking(List<GuessPartition> partitions, int evaluated, int total, long elapsedNanos) {
+        this.partitions = Collections.unmodifiableList(partitions);
+        this.evaluated = evaluated;
+        this.total = total;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // От лучшей попытки к худшей.
+    public List<GuessPartition> getPartitions() {
+        return partitions;
+    }
+
+    public int getEvaluated() {
+        return evaluated;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    // false, если время вышло раньше, чем были оценены все попытки.
+    public boolean isComplete() {
+        return evaluated == total;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "оценено попыток " + evaluated + " из " + total + ", лучшие " + partitions;
+    }
+}
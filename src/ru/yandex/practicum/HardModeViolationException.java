@@ -0,0 +1,7 @@
+package ru.yandex.practicum;
+
+public class HardModeViolationException extends WordleException {
+    public HardModeViolationException(String message) {
+        super("Сложный режим: " + message);
+    }
+}
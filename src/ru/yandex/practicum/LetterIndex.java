@@ -0,0 +1,188 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+class LetterIndex {
+
+    private final int size;
+    private final int blocks;
+    private final long[] allWords;
+    private final long[][] positionBits;
+    private final long[][] containsBits;
+    private final long[] noWords;
+    private final Alphabet alphabet;
+    private final int alphabetSize;
+
+    LetterIndex(List<String> words, Alphabet alphabet) {
+        this.alphabet = alphabet;
+        this.alphabetSize = alphabet.size();
+        this.size = words.size();
+        this.blocks = (size + 63) >>> 6;
+        this.allWords = new long[blocks];
+        this.noWords = new long[blocks];
+        this.positionBits = new long[WordleDictionary.WORD_LENGTH * alphabetSize][blocks];
+        this.containsBits = new long[alphabetSize][blocks];
+
+        int id = 0;
+        for (String word : words) {
+            long bit = 1L << id;
+            allWords[id >>> 6] |= bit;
+            for (int i = 0; i < Math.min(word.length(), WordleDictionary.WORD_LENGTH); i++) {
+                int letter = alphabet.indexOf(word.charAt(i));
+                if (letter >= 0) {
+                    positionBits[i * alphabetSize + letter][id >>> 6] |= bit;
+                    containsBits[letter][id >>> 6] |= bit;
+                }
+            }
+            id++;
+        }
+    }
+
+    long[] positionRow(int position, char c) {
+        int letter = alphabet.indexOf(c);
+        return letter < 0 ? noWords : positionBits[position * alphabetSize + letter];
+    }
+
+    long[] containsRow(char c) {
+        int letter = alphabet.indexOf(c);
+        return letter < 0 ? noWords : containsBits[letter];
+    }
+
+    long[] allWords() {
+        return allWords;
+    }
+
+    int blocks() {
+        return blocks;
+    }
+
+    // Занимаемая память без заголовков объектов.
+    long sizeInBytes() {
+        return (2L + positionBits.length + containsBits.length) * blocks * 8L;
+    }
+
+    long[] filter(ConstraintKey key) {
+        long[] result = allWords.clone();
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            char c = key.getCorrect(i);
+            if (c != 0) {
+                and(result, positionRow(i, c));
+            }
+            for (long wrong = key.getWrong(i); wrong != 0; wrong &= wrong - 1) {
+                andNot(result, positionBits[i * alphabetSize + Long.numberOfTrailingZeros(wrong)]);
+            }
+        }
+        for (long required = key.getRequired(); required != 0; required &= required - 1) {
+            and(result, containsBits[Long.numberOfTrailingZeros(required)]);
+        }
+        for (long excluded = key.getExcluded(); excluded != 0; excluded &= excluded - 1) {
+            andNot(result, containsBits[Long.numberOfTrailingZeros(excluded)]);
+        }
+        return result;
+    }
+
+    private static void and(long[] target, long[] row) {
+        for (int block = 0; block < target.length; block++) {
+            target[block] &= row[block];
+        }
+    }
+
+    private static void andNot(long[] target, long[] row) {
+        for (int block = 0; block < target.length; block++) {
+            target[block] &= ~row[block];
+        }
+    }
+
+    IntStream stream(WordQuery query) {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(
+                new MatchIterator(query),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    int count(WordQuery query) {
+        Rows rows = new Rows(query);
+        int count = 0;
+        for (int block = 0; block < blocks; block++) {
+            count += Long.bitCount(rows.mask(block));
+        }
+        return count;
+    }
+
+    private class Rows {
+        private final long[][] required;
+        private final long[][] excluded;
+
+        Rows(WordQuery query) {
+            long[][] rows = new long[WordleDictionary.WORD_LENGTH + query.getRequiredLetters().length()][];
+            int count = 0;
+            for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+                char c = query.getPosition(i);
+                if (c != 0) {
+                    rows[count++] = positionRow(i, c);
+                }
+            }
+            String letters = query.getRequiredLetters();
+            for (int i = 0; i < letters.length(); i++) {
+                rows[count++] = containsRow(letters.charAt(i));
+            }
+            this.required = Arrays.copyOf(rows, count);
+
+            String absent = query.getExcludedLetters();
+            long[][] excludedRows = new long[absent.length()][];
+            for (int i = 0; i < absent.length(); i++) {
+                excludedRows[i] = containsRow(absent.charAt(i));
+            }
+            this.excluded = excludedRows;
+        }
+
+        long mask(int block) {
+            long mask = allWords[block];
+            for (long[] row : required) {
+                mask &= row[block];
+            }
+            for (long[] row : excluded) {
+                mask &= ~row[block];
+            }
+            return mask;
+        }
+    }
+
+    // Маска следующего блока из 64 слов вычисляется только когда текущий исчерпан.
+    private class MatchIterator implements PrimitiveIterator.OfInt {
+        private final Rows rows;
+        private int block = -1;
+        private long mask;
+
+        MatchIterator(WordQuery query) {
+            this.rows = new Rows(query);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (mask == 0) {
+                if (++block >= blocks) {
+                    return false;
+                }
+                mask = rows.mask(block);
+            }
+            return true;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int id = (block << 6) + Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            return id;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Нагрузочный генератор: N игроков в виртуальных потоках играют партии над общим
+// словарём, перемешивая свои попытки, заведомо неверный ввод и запросы подсказок.
+// Работает без сети и файлов; ошибки движка попадают в отчёт, а не теряются.
+public class LoadGenerator {
+
+    public enum Operation {
+        GUESS, INVALID, SUGGESTION
+    }
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private int players = 64;
+    private int gamesPerPlayer = 20;
+    private double suggestionRatio = 0.2;
+    private double invalidRatio = 0.1;
+    private long seed = 1;
+    private SuggestionCache suggestionCache;
+    private PlayerStatistics statistics;
+    private PrintWriter gameLog = new PrintWriter(Writer.nullWriter());
+
+    public LoadGenerator(WordleDictionary dictionary, PrintWriter log) {
+        this.dictionary = dictionary;
+        this.log = log;
+    }
+
+    public void setPlayers(int players) {
+        if (players < 1) {
+            throw new IllegalArgumentException("Количество игроков должно быть положительным: " + players);
+        }
+        this.players = players;
+    }
+
+    public void setGamesPerPlayer(int gamesPerPlayer) {
+        if (gamesPerPlayer < 1) {
+            throw new IllegalArgumentException("Количество партий должно быть положительным: " + gamesPerPlayer);
+        }
+        this.gamesPerPlayer = gamesPerPlayer;
+    }
+
+    // Доли действий игрока: подсказка, неверный ввод, остальное - собственная попытка.
+    public void setRatios(double suggestionRatio, double invalidRatio) {
+        if (suggestionRatio < 0 || invalidRatio < 0 || suggestionRatio + invalidRatio > 1) {
+            throw new IllegalArgumentException("Доли действий должны быть неотрицательными и в сумме не больше 1");
+        }
+        this.suggestionRatio = suggestionRatio;
+        this.invalidRatio = invalidRatio;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setSuggestionCache(SuggestionCache suggestionCache) {
+        this.suggestionCache = suggestionCache;
+    }
+
+    // Итоги партий копятся под именами "игрок-<номер>".
+    public void setStatistics(PlayerStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    // По умолчанию партии не пишут в лог, чтобы общий PrintWriter не стал узким местом.
+    public void setGameLog(PrintWriter gameLog) {
+        this.gameLog = gameLog;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        LongHistogram[] latencies = new LongHistogram[Operation.values().length];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LongHistogram();
+        }
+        LongAdder games = new LongAdder();
+        LongAdder wins = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicReference<String> firstError = new AtomicReference<>();
+
+        log.println("Нагрузочный прогон: игроков " + players + ", партий на игрока " + gamesPerPlayer);
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < players; p++) {
+                Random random = new Random(seed * 1_000_003L + p);
+                String player = "игрок-" + p;
+                executor.execute(() -> {
+                    for (int g = 0; g < gamesPerPlayer; g++) {
+                        try {
+                            if (play(random, latencies, player)) {
+                                wins.increment();
+                            }
+                        } catch (WordleException | RuntimeException e) {
+                            errors.increment();
+                            firstError.compareAndSet(null, e.getClass().getSimpleName() + ": " + e.getMessage());
+                        }
+                        games.increment();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+
+        LoadReport report = new LoadReport(players, games.sum(), wins.sum(), errors.sum(), firstError.get(),
+                elapsed, allocated, latencies);
+        log.print(report.format());
+        log.flush();
+        return report;
+    }
+
+    // Одна партия; true, если слово угадано.
+    private boolean play(Random random, LongHistogram[] latencies, String player) throws WordleException {
+        WordleGame game = new WordleGame(dictionary, gameLog, dictionary.getWord(random.nextInt(dictionary.size())));
+        if (suggestionCache != null) {
+            game.setSuggestionCache(suggestionCache);
+        }
+        if (statistics != null) {
+            game.setStatistics(statistics, player);
+        }
+
+        while (!game.isGameOver()) {
+            double action = random.nextDouble();
+            if (action < invalidRatio) {
+                String input = invalidInput(random, game);
+                long start = System.nanoTime();
+                try {
+                    game.makeGuess(input);
+                    throw new IllegalStateException("Принят заведомо неверный ввод: " + input);
+                } catch (InvalidWordException | WordNotFoundInDictionaryException e) {
+                    latencies[Operation.INVALID.ordinal()].record(System.nanoTime() - start);
+                }
+            } else if (action < invalidRatio + suggestionRatio) {
+                long start = System.nanoTime();
+                String suggestion = game.getSuggestion();
+                latencies[Operation.SUGGESTION.ordinal()].record(System.nanoTime() - start);
+                guess(game, suggestion != null ? suggestion : unusedWord(random, game), latencies);
+            } else {
+                guess(game, unusedWord(random, game), latencies);
+            }
+        }
+        return game.isWon();
+    }
+
+    private static void guess(WordleGame game, String word, LongHistogram[] latencies) throws WordleException {
+        long start = System.nanoTime();
+        game.makeGuess(word);
+        latencies[Operation.GUESS.ordinal()].record(System.nanoTime() - start);
+    }
+
+    private String unusedWord(Random random, WordleGame game) {
+        while (true) {
+            String word = dictionary.getWord(random.nextInt(dictionary.size()));
+            if (!game.getState().getUsedWords().contains(word)) {
+                return word;
+            }
+        }
+    }
+
+    // Неверный ввод трёх видов: не та длина, чужие символы, повтор уже сделанной попытки.
+    private String invalidInput(Random random, WordleGame game) {
+        String word = dictionary.getWord(random.nextInt(dictionary.size()));
+        switch (random.nextInt(3)) {
+            case 0:
+                return word.substring(0, WordleDictionary.WORD_LENGTH - 1);
+            case 1:
+                return word.substring(0, WordleDictionary.WORD_LENGTH - 1) + '1';
+            default:
+                return game.getState().getGuessHistory().isEmpty() ? word + word
+                        : game.getState().getGuessHistory().get(0);
+        }
+    }
+
+    // Суммарные выделения всех потоков JVM (виртуальные потоки учитываются через несущие);
+    // -1, если JVM этого не умеет.
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getTotalThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,108 @@
+package ru.yandex.practicum;
+
+import java.util.Locale;
+
+// Итоги нагрузочного прогона; задержки - в наносекундах.
+public class LoadReport {
+
+    private final int players;
+    private final long games;
+    private final long wins;
+    private final long errors;
+    private final String firstError;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+    private final LongHistogram[] latencies;
+
+    LoadReport(int players, long games, long wins, long errors, String firstError,
+               long elapsedNanos, long allocatedBytes, LongHistogram[] latencies) {
+        this.players = players;
+        this.games = games;
+        this.wins = wins;
+        this.errors = errors;
+        this.firstError = firstError;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.latencies = latencies;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getCount(LoadGenerator.Operation operation) {
+        return latencies[operation.ordinal()].getCount();
+    }
+
+    public long getOperations() {
+        long total = 0;
+        for (LongHistogram histogram : latencies) {
+            total += histogram.getCount();
+        }
+        return total;
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getOperations() * 1e9 / elapsedNanos;
+    }
+
+    public long getPercentile(LoadGenerator.Operation operation, double percentile) {
+        return latencies[operation.ordinal()].getPercentile(percentile);
+    }
+
+    public long getMax(LoadGenerator.Operation operation) {
+        return latencies[operation.ordinal()].getMax();
+    }
+
+    // -1, если JVM не считает выделения памяти по потокам.
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public double getAllocationRate() {
+        return allocatedBytes < 0 || elapsedNanos == 0 ? -1 : allocatedBytes * 1e9 / elapsedNanos;
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "игроков: %d, партий: %d, угадано: %d, ошибок: %d%n",
+                players, games, wins, errors));
+        out.append(String.format(Locale.ROOT, "время: %.3f с, операций: %d, операций в секунду: %.0f%n",
+                elapsedNanos / 1e9, getOperations(), getThroughput()));
+        for (LoadGenerator.Operation operation : LoadGenerator.Operation.values()) {
+            out.append(String.format(Locale.ROOT, "%s: %d, p50 %d нс, p90 %d нс, p99 %d нс, p99.9 %d нс, max %d нс%n",
+                    operation.name().toLowerCase(Locale.ROOT), getCount(operation),
+                    getPercentile(operation, 50), getPercentile(operation, 90), getPercentile(operation, 99),
+                    getPercentile(operation, 99.9), getMax(operation)));
+        }
+        if (allocatedBytes >= 0) {
+            out.append(String.format(Locale.ROOT, "выделено памяти: %.1f МБ, %.1f МБ/с, %.0f байт на операцию%n",
+                    allocatedBytes / 1e6, getAllocationRate() / 1e6,
+                    getOperations() == 0 ? 0.0 : (double) allocatedBytes / getOperations()));
+        }
+        if (firstError != null) {
+            out.append("первая ошибка: ").append(firstError).append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,223 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class MultiBoardWordleGame {
+
+    public static final int MAX_BOARDS = 32;
+    public static final int SOLVED_BOARD = -1;
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private final String[] answers;
+    private final int[] answerIds;
+    private final int maxAttempts;
+    private final int[][] candidates;
+    private final int[] candidateCounts;
+    private final int[] codes;
+    private final Random random;
+    private int solvedMask;
+    private int attemptsLeft;
+    private boolean gameOver;
+    private boolean won;
+
+    private final Set<String> usedWords;
+    private final List<String> guessHistory;
+
+    public MultiBoardWordleGame(WordleDictionary dictionary, PrintWriter log, int boards) {
+        this(dictionary, log, randomAnswers(dictionary, boards));
+    }
+
+    public MultiBoardWordleGame(WordleDictionary dictionary, PrintWriter log, List<String> answers) {
+        if (answers.isEmpty() || answers.size() > MAX_BOARDS) {
+            throw new IllegalArgumentException("Количество полей должно быть от 1 до " + MAX_BOARDS);
+        }
+        this.dictionary = dictionary;
+        this.log = log;
+        this.answers = new String[answers.size()];
+        this.answerIds = new int[answers.size()];
+        for (int b = 0; b < this.answers.length; b++) {
+            this.answers[b] = dictionary.getAlphabet().normalize(answers.get(b));
+            this.answerIds[b] = dictionary.indexOf(this.answers[b]);
+            if (answerIds[b] < 0) {
+                throw new IllegalArgumentException("Загаданного слова нет в словаре: " + answers.get(b));
+            }
+        }
+        this.maxAttempts = WordleGame.MAX_ATTEMPTS - 1 + this.answers.length;
+        this.attemptsLeft = maxAttempts;
+        this.gameOver = false;
+        this.won = false;
+
+        int size = dictionary.size();
+        int[] allWords = new int[size];
+        for (int i = 0; i < size; i++) {
+            allWords[i] = i;
+        }
+        this.candidates = new int[this.answers.length][];
+        for (int b = 0; b < this.answers.length; b++) {
+            candidates[b] = allWords.clone();
+        }
+        this.candidateCounts = new int[this.answers.length];
+        Arrays.fill(candidateCounts, size);
+        this.codes = new int[this.answers.length];
+        this.random = new Random();
+
+        this.usedWords = new HashSet<>();
+        this.guessHistory = new ArrayList<>();
+
+        log.println("Игра на " + this.answers.length + " полях начата. Загаданные слова: "
+                + String.join(", ", this.answers));
+    }
+
+    private static List<String> randomAnswers(WordleDictionary dictionary, int boards) {
+        if (boards < 1 || boards > MAX_BOARDS) {
+            throw new IllegalArgumentException("Количество полей должно быть от 1 до " + MAX_BOARDS);
+        }
+        if (boards > dictionary.size()) {
+            throw new EmptyDictionaryException("В словаре меньше слов, чем полей: " + boards);
+        }
+        Set<String> answers = new HashSet<>();
+        List<String> ordered = new ArrayList<>();
+        while (ordered.size() < boards) {
+            String word = dictionary.getRandomWord();
+            if (answers.add(word)) {
+                ordered.add(word);
+            }
+        }
+        return ordered;
+    }
+
+    // Возвращает коды подсказок по всем полям; для полей, отгаданных ранее, - SOLVED_BOARD.
+    public int[] makeGuess(String input) throws WordleException {
+        if (gameOver) {
+            throw new RuntimeException("Игра уже завершена");
+        }
+
+        String normalized = dictionary.requireGuess(input);
+
+        if (usedWords.contains(normalized)) {
+            throw new InvalidWordException("Это слово уже было использовано");
+        }
+
+        attemptsLeft--;
+        usedWords.add(normalized);
+        guessHistory.add(normalized);
+
+        for (int b = 0; b < answers.length; b++) {
+            codes[b] = (solvedMask & (1 << b)) != 0
+                    ? SOLVED_BOARD
+                    : dictionary.feedbackCode(normalized, answerIds[b]);
+        }
+
+        for (int b = 0; b < answers.length; b++) {
+            int code = codes[b];
+            if (code == SOLVED_BOARD) {
+                continue;
+            }
+            if (code == WordleDictionary.WINNING_CODE) {
+                solvedMask |= 1 << b;
+                candidateCounts[b] = 0;
+                continue;
+            }
+            int[] boardCandidates = candidates[b];
+            int kept = 0;
+            for (int k = 0; k < candidateCounts[b]; k++) {
+                int id = boardCandidates[k];
+                if (dictionary.feedbackCode(normalized, id) == code) {
+                    boardCandidates[kept++] = id;
+                }
+            }
+            candidateCounts[b] = kept;
+        }
+
+        log.println("Попытка: " + normalized + " (отгадано полей: " + getSolvedCount()
+                + " из " + answers.length + ", осталось: " + attemptsLeft + ")");
+
+        if (getSolvedCount() == answers.length) {
+            gameOver = true;
+            won = true;
+            log.println("Победа!");
+        } else if (attemptsLeft <= 0) {
+            gameOver = true;
+            won = false;
+            log.println("Поражение. Загаданные слова: " + String.join(", ", answers));
+        }
+
+        return codes.clone();
+    }
+
+    public String getSuggestion() {
+        if (gameOver) {
+            return null;
+        }
+
+        int bestBoard = -1;
+        for (int b = 0; b < answers.length; b++) {
+            if ((solvedMask & (1 << b)) == 0 && candidateCounts[b] > 0
+                    && (bestBoard == -1 || candidateCounts[b] < candidateCounts[bestBoard])) {
+                bestBoard = b;
+            }
+        }
+        if (bestBoard == -1) {
+            log.println("Нет подходящих слов для подсказки");
+            return null;
+        }
+
+        int count = candidateCounts[bestBoard];
+        int start = random.nextInt(count);
+        for (int k = 0; k < count; k++) {
+            String word = dictionary.getWord(candidates[bestBoard][(start + k) % count]);
+            if (!usedWords.contains(word)) {
+                log.println("Предложена подсказка: " + word + " (поле " + (bestBoard + 1) + ")");
+                return word;
+            }
+        }
+        return null;
+    }
+
+    public int getBoardCount() {
+        return answers.length;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean isSolved(int board) {
+        return (solvedMask & (1 << board)) != 0;
+    }
+
+    public int getSolvedCount() {
+        return Integer.bitCount(solvedMask);
+    }
+
+    public int getCandidateCount(int board) {
+        return candidateCounts[board];
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public int getAttemptsLeft() {
+        return attemptsLeft;
+    }
+
+    public List<String> getAnswers() {
+        return Arrays.asList(answers.clone());
+    }
+
+    public List<String> getGuessHistory() {
+        return new ArrayList<>(guessHistory);
+    }
+}
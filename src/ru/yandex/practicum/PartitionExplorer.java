@@ -0,0 +1,197 @@
+package ru.yandex.practicum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Разбиения кандидатов по подсказкам для WordleGame. Кандидаты - слова, на которые все
+// сделанные попытки дали бы ровно полученные подсказки; разбиение считается одним проходом
+// по ним с упакованным кодом подсказки (WordleDictionary.feedbackCode) вместо filterByHints
+// на каждую подсказку.
+final class PartitionExplorer {
+
+    static final int CHUNK_SIZE = 64;
+
+    private final WordleDictionary dictionary;
+    private final int[] candidates;
+
+    PartitionExplorer(WordleDictionary dictionary, GameState state) {
+        this.dictionary = dictionary;
+        List<String> guesses = state.getGuessHistory();
+        List<String> hints = state.getHintHistory();
+        int[] codes = new int[hints.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = WordleDictionary.codeFromHint(hints.get(i));
+        }
+
+        int[] matching = new int[dictionary.size()];
+        int count = 0;
+        search:
+        for (int id = 0; id < dictionary.size(); id++) {
+            for (int i = 0; i < codes.length; i++) {
+                if (dictionary.feedbackCode(guesses.get(i), id) != codes[i]) {
+                    continue search;
+                }
+            }
+            matching[count++] = id;
+        }
+        this.candidates = distinct(dictionary, Arrays.copyOf(matching, count));
+    }
+
+    int getCandidateCount() {
+        return candidates.length;
+    }
+
+    GuessPartition partition(String guess, boolean withMembers) {
+        int[] sizes = new int[WordleDictionary.FEEDBACK_CODES];
+        int[] codes = withMembers ? new int[candidates.length] : null;
+        for (int k = 0; k < candidates.length; k++) {
+            int code = dictionary.feedbackCode(guess, candidates[k]);
+            sizes[code]++;
+            if (codes != null) {
+                codes[k] = code;
+            }
+        }
+
+        String[][] members = null;
+        if (withMembers) {
+            members = new String[WordleDictionary.FEEDBACK_CODES][];
+            int[] filled = new int[WordleDictionary.FEEDBACK_CODES];
+            for (int k = 0; k < candidates.length; k++) {
+                int code = codes[k];
+                if (members[code] == null) {
+                    members[code] = new String[sizes[code]];
+                }
+                members[code][filled[code]++] = dictionary.getWord(candidates[k]);
+            }
+        }
+        return new GuessPartition(guess, candidates.length, sizes, members);
+    }
+
+    // Попытки оцениваются кусками по CHUNK_SIZE в порядке guesses; каждый поток пула берёт
+    // следующий кусок, пока они не кончатся или не выйдет время, и держит свои k лучших.
+    // Поэтому при нехватке времени оценено начало списка - туда ставятся самые полезные попытки.
+    GuessRanking rank(int[] guesses, int k, long deadline, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger evaluated = new AtomicInteger();
+        int workers = Math.max(1, Math.min(pool.getParallelism(), (guesses.length + CHUNK_SIZE - 1) / CHUNK_SIZE));
+        List<ForkJoinTask<PriorityQueue<Score>>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(pool.submit(() -> rankChunks(guesses, k, deadline, nextChunk, evaluated)));
+        }
+
+        List<Score> best = new ArrayList<>();
+        for (ForkJoinTask<PriorityQueue<Score>> task : tasks) {
+            best.addAll(task.join());
+        }
+        best.sort(null);
+        List<GuessPartition> partitions = new ArrayList<>(Math.min(k, best.size()));
+        for (int i = 0; i < best.size() && i < k; i++) {
+            partitions.add(partition(dictionary.getWord(guesses[best.get(i).position]), false));
+        }
+        return new GuessRanking(partitions, evaluated.get(), guesses.length, System.nanoTime() - start);
+    }
+
+    private PriorityQueue<Score> rankChunks(int[] guesses, int k, long deadline,
+                                            AtomicInteger nextChunk, AtomicInteger evaluated) {
+        // Худшая из лучших - в голове очереди.
+        PriorityQueue<Score> best = new PriorityQueue<>(k + 1, (a, b) -> b.compareTo(a));
+        int[] sizes = new int[WordleDictionary.FEEDBACK_CODES];
+        while (System.nanoTime() < deadline) {
+            int from = nextChunk.getAndIncrement() * CHUNK_SIZE;
+            if (from >= guesses.length) {
+                break;
+            }
+            int to = Math.min(guesses.length, from + CHUNK_SIZE);
+            for (int position = from; position < to; position++) {
+                Score score = score(dictionary.getWord(guesses[position]), position, sizes);
+                if (best.size() < k) {
+                    best.add(score);
+                } else if (score.compareTo(best.peek()) < 0) {
+                    best.poll();
+                    best.add(score);
+                }
+            }
+            evaluated.addAndGet(to - from);
+        }
+        return best;
+    }
+
+    // Качество разбиения без создания GuessPartition: сумма квадратов размеров групп.
+    private Score score(String guess, int position, int[] sizes) {
+        Arrays.fill(sizes, 0);
+        long squares = 0;
+        int groups = 0;
+        for (int answer : candidates) {
+            int size = sizes[dictionary.feedbackCode(guess, answer)]++;
+            squares += 2L * size + 1;
+            if (size == 0) {
+                groups++;
+            }
+        }
+        return new Score(squares, sizes[WordleDictionary.WINNING_CODE] > 0, groups, position);
+    }
+
+    // Кандидаты, затем остальные слова словаря; повторы слов не оцениваются дважды.
+    int[] guessPool(boolean candidatesOnly) {
+        if (candidatesOnly) {
+            return candidates.clone();
+        }
+        boolean[] isCandidate = new boolean[dictionary.size()];
+        for (int id : candidates) {
+            isCandidate[id] = true;
+        }
+        int[] others = new int[dictionary.size()];
+        int count = 0;
+        for (int id = 0; id < dictionary.size(); id++) {
+            if (!isCandidate[id]) {
+                others[count++] = id;
+            }
+        }
+        int[] distinctOthers = distinct(dictionary, Arrays.copyOf(others, count));
+        int[] pool = Arrays.copyOf(candidates, candidates.length + distinctOthers.length);
+        System.arraycopy(distinctOthers, 0, pool, candidates.length, distinctOthers.length);
+        return pool;
+    }
+
+    private static int[] distinct(WordleDictionary dictionary, int[] ids) {
+        int count = 0;
+        for (int id : ids) {
+            if (dictionary.indexOf(dictionary.getWord(id)) == id) {
+                ids[count++] = id;
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    private static final class Score implements Comparable<Score> {
+        final long squares;
+        final boolean candidate;
+        final int groups;
+        final int position;
+
+        Score(long squares, boolean candidate, int groups, int position) {
+            this.squares = squares;
+            this.candidate = candidate;
+            this.groups = groups;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Score other) {
+            int result = Long.compare(squares, other.squares);
+            if (result == 0) {
+                result = Boolean.compare(other.candidate, candidate);
+            }
+            if (result == 0) {
+                result = Integer.compare(other.groups, groups);
+            }
+            return result != 0 ? result : Integer.compare(position, other.position);
+        }
+    }
+}
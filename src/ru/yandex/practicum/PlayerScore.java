@@ -0,0 +1,50 @@
+package ru.yandex.practicum;
+
+public class PlayerScore {
+
+    private final String player;
+    private final long games;
+    private final long wins;
+    private final long invalidGames;
+    private final long points;
+    private final long winningAttempts;
+
+    public PlayerScore(String player, long games, long wins, long invalidGames, long points, long winningAttempts) {
+        this.player = player;
+        this.games = games;
+        this.wins = wins;
+        this.invalidGames = invalidGames;
+        this.points = points;
+        this.winningAttempts = winningAttempts;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getInvalidGames() {
+        return invalidGames;
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public double getAverageAttempts() {
+        return wins == 0 ? 0 : (double) winningAttempts / wins;
+    }
+
+    @Override
+    public String toString() {
+        return player + ": очков " + points + ", игр " + games + ", побед " + wins
+                + ", некорректных " + invalidGames;
+    }
+}
@@ -0,0 +1,268 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Итоги игроков по завершённым партиям: серии, доля побед и распределение попыток.
+// Итоги игрока - неизменяемый PlayerStats за AtomicReference: партия заменяет его через CAS,
+// как GameState в WordleGame, без блокировок. Общие счётчики - LongAdder, чтобы потоки
+// разных игроков не спорили за одну ячейку. Запрос по игроку - один get из ConcurrentHashMap.
+public class PlayerStatistics {
+
+    private static final int MAGIC = 0x57505354;
+    private static final int VERSION = 1;
+
+    private final PrintWriter log;
+    private final Map<String, AtomicReference<PlayerStats>> players = new ConcurrentHashMap<>();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder[] winsByAttempts = new LongAdder[WordleGame.MAX_ATTEMPTS];
+
+    private ScheduledExecutorService snapshots;
+    private Path snapshotFile;
+    private volatile long savedGames = -1;
+
+    public PlayerStatistics(PrintWriter log) {
+        this.log = log;
+        for (int i = 0; i < winsByAttempts.length; i++) {
+            winsByAttempts[i] = new LongAdder();
+        }
+    }
+
+    // attempts - сколько попыток потрачено; у поражения не учитывается.
+    public void record(String player, boolean won, int attempts) {
+        if (won && (attempts < 1 || attempts > WordleGame.MAX_ATTEMPTS)) {
+            throw new IllegalArgumentException("Количество попыток должно быть от 1 до " + WordleGame.MAX_ATTEMPTS);
+        }
+        AtomicReference<PlayerStats> stats = players.get(player);
+        if (stats == null) {
+            stats = players.computeIfAbsent(player, p -> new AtomicReference<>(PlayerStats.empty(p)));
+        }
+        while (true) {
+            PlayerStats current = stats.get();
+            if (stats.compareAndSet(current, current.withGame(won, attempts))) {
+                break;
+            }
+        }
+        games.increment();
+        (won ? winsByAttempts[attempts - 1] : losses).increment();
+    }
+
+    public void record(String player, WordleGame game) {
+        if (!game.isGameOver()) {
+            throw new IllegalStateException("Партия ещё не завершена");
+        }
+        record(player, game.isWon(), game.getGuessHistory().size());
+    }
+
+    // Для незнакомого игрока - пустые итоги.
+    public PlayerStats get(String player) {
+        AtomicReference<PlayerStats> stats = players.get(player);
+        return stats == null ? PlayerStats.empty(player) : stats.get();
+    }
+
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    public long getTotalGames() {
+        return games.sum();
+    }
+
+    public long getTotalWins() {
+        long wins = 0;
+        for (LongAdder adder : winsByAttempts) {
+            wins += adder.sum();
+        }
+        return wins;
+    }
+
+    public long getTotalLosses() {
+        return losses.sum();
+    }
+
+    // Победы всех игроков по числу попыток: элемент k - 1 для k попыток.
+    public long[] getAttemptDistribution() {
+        long[] distribution = new long[winsByAttempts.length];
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] = winsByAttempts[i].sum();
+        }
+        return distribution;
+    }
+
+    // Снимок: итоги каждого игрока согласованы, а партии, завершённые во время записи,
+    // попадают в него или в следующий снимок. Числа пишутся по 7 бит, так что игрок
+    // с небольшими счётчиками занимает имя и около десятка байт.
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(WordleGame.MAX_ATTEMPTS);
+        for (AtomicReference<PlayerStats> reference : players.values()) {
+            PlayerStats stats = reference.get();
+            data.writeBoolean(true);
+            data.writeUTF(stats.getPlayer());
+            writeVarLong(data, stats.getGames());
+            writeVarLong(data, stats.getCurrentStreak());
+            writeVarLong(data, stats.getMaxStreak());
+            for (long wins : stats.getAttemptDistribution()) {
+                writeVarLong(data, wins);
+            }
+        }
+        data.writeBoolean(false);
+        data.flush();
+    }
+
+    public static PlayerStatistics read(InputStream in, PrintWriter log) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readUnsignedByte() != VERSION) {
+            throw new IOException("Неизвестный формат снимка статистики");
+        }
+        if (data.readUnsignedByte() != WordleGame.MAX_ATTEMPTS) {
+            throw new IOException("Снимок статистики сделан для другого числа попыток");
+        }
+        PlayerStatistics statistics = new PlayerStatistics(log);
+        while (data.readBoolean()) {
+            String player = data.readUTF();
+            long games = readVarLong(data);
+            long currentStreak = readVarLong(data);
+            long maxStreak = readVarLong(data);
+            long[] distribution = new long[WordleGame.MAX_ATTEMPTS];
+            long wins = 0;
+            for (int i = 0; i < distribution.length; i++) {
+                distribution[i] = readVarLong(data);
+                wins += distribution[i];
+            }
+            if (wins > games || currentStreak > maxStreak || maxStreak > wins) {
+                throw new IOException("Повреждённый снимок статистики: игрок " + player);
+            }
+            PlayerStats stats = new PlayerStats(player, games, wins, (int) currentStreak, (int) maxStreak,
+                    distribution);
+            if (statistics.players.putIfAbsent(player, new AtomicReference<>(stats)) != null) {
+                throw new IOException("Повреждённый снимок статистики: игрок " + player + " встречается дважды");
+            }
+            statistics.games.add(games);
+            statistics.losses.add(games - wins);
+            for (int i = 0; i < distribution.length; i++) {
+                statistics.winsByAttempts[i].add(distribution[i]);
+            }
+        }
+        if (data.read() != -1) {
+            throw new IOException("Повреждённый снимок статистики: лишние данные в конце");
+        }
+        statistics.savedGames = statistics.games.sum();
+        log.println("Загружена статистика игроков: " + statistics.getPlayerCount());
+        return statistics;
+    }
+
+    // Временный файл и переименование, как у DictionarySnapshot: при сбое посреди записи
+    // на диске остаётся предыдущий снимок.
+    public void save(Path file) throws IOException {
+        long total = games.sum();
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        savedGames = total;
+    }
+
+    public static PlayerStatistics load(Path file, PrintWriter log) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, log);
+        }
+    }
+
+    // Если файла ещё нет - пустая статистика.
+    public static PlayerStatistics loadOrCreate(Path file, PrintWriter log) throws IOException {
+        return Files.exists(file) ? load(file, log) : new PlayerStatistics(log);
+    }
+
+    // Снимок пишется в фоновом потоке раз в period, только если с прошлого снимка
+    // завершились новые партии. Ошибка записи попадает в лог и не останавливает снимки.
+    public synchronized void startSnapshots(Path file, Duration period) {
+        if (snapshots != null) {
+            throw new IllegalStateException("Снимки статистики уже запущены");
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Период снимков должен быть положительным");
+        }
+        snapshotFile = file;
+        snapshots = Executors.newSingleThreadScheduledExecutor(
+                task -> Thread.ofPlatform().daemon().name("wordle-stats-snapshot").unstarted(task));
+        long millis = period.toMillis();
+        snapshots.scheduleWithFixedDelay(() -> {
+            try {
+                saveIfChanged(file);
+            } catch (IOException e) {
+                log.println("Ошибка записи снимка статистики: " + e.getMessage());
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // Останавливает фоновые снимки и записывает последний.
+    public synchronized void stopSnapshots() throws IOException {
+        if (snapshots == null) {
+            return;
+        }
+        snapshots.shutdown();
+        try {
+            snapshots.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshots = null;
+        saveIfChanged(snapshotFile);
+    }
+
+    private void saveIfChanged(Path file) throws IOException {
+        if (games.sum() != savedGames) {
+            save(file);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Повреждённый снимок статистики: неверное число");
+    }
+}
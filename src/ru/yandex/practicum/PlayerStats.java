@@ -0,0 +1,93 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+
+// Неизменяемые итоги одного игрока. Каждая партия даёт новый объект (withGame), поэтому
+// читатель всегда видит согласованные счётчики, серии и распределение попыток.
+public final class PlayerStats {
+
+    private final String player;
+    private final long games;
+    private final long wins;
+    private final int currentStreak;
+    private final int maxStreak;
+    // winsByAttempts[k - 1] - победы за k попыток.
+    private final long[] winsByAttempts;
+
+    PlayerStats(String player, long games, long wins, int currentStreak, int maxStreak, long[] winsByAttempts) {
+        this.player = player;
+        this.games = games;
+        this.wins = wins;
+        this.currentStreak = currentStreak;
+        this.maxStreak = maxStreak;
+        this.winsByAttempts = winsByAttempts;
+    }
+
+    static PlayerStats empty(String player) {
+        return new PlayerStats(player, 0, 0, 0, 0, new long[WordleGame.MAX_ATTEMPTS]);
+    }
+
+    PlayerStats withGame(boolean won, int attempts) {
+        if (!won) {
+            return new PlayerStats(player, games + 1, wins, 0, maxStreak, winsByAttempts);
+        }
+        long[] distribution = winsByAttempts.clone();
+        distribution[attempts - 1]++;
+        int streak = currentStreak + 1;
+        return new PlayerStats(player, games + 1, wins + 1, streak, Math.max(maxStreak, streak), distribution);
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return games - wins;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public int getMaxStreak() {
+        return maxStreak;
+    }
+
+    public long getWinsInAttempts(int attempts) {
+        if (attempts < 1 || attempts > WordleGame.MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("Количество попыток должно быть от 1 до " + WordleGame.MAX_ATTEMPTS);
+        }
+        return winsByAttempts[attempts - 1];
+    }
+
+    public long[] getAttemptDistribution() {
+        return winsByAttempts.clone();
+    }
+
+    public double getAverageAttempts() {
+        long total = 0;
+        for (int i = 0; i < winsByAttempts.length; i++) {
+            total += winsByAttempts[i] * (i + 1);
+        }
+        return wins == 0 ? 0 : (double) total / wins;
+    }
+
+    @Override
+    public String toString() {
+        return player + ": игр " + games + ", побед " + wins + " (" + Math.round(getWinRate() * 100) + "%)"
+                + ", серия " + currentStreak + ", лучшая серия " + maxStreak
+                + ", попытки " + Arrays.toString(winsByAttempts);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.yandex.practicum;
+
+public class RateLimitExceededException extends WordleException {
+    public RateLimitExceededException(String sessionId) {
+        super("Слишком много попыток в сессии '" + sessionId + "', повторите позже");
+    }
+}
@@ -0,0 +1,344 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+// Поиск стратегии с наименьшим числом попыток в худшем случае. Ответы и допустимые
+// ходы - все слова словаря. В каждом узле перебираются лучшие по разбиению ходы,
+// граница лучшего найденного решения отсекает заведомо худшие ветви.
+public class StrategySolver {
+
+    public static final int DEFAULT_BEAM_WIDTH = 24;
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private final ForkJoinPool pool;
+    private final int[] words;
+    private final int size;
+    private final byte[] feedback;
+    private final ConcurrentHashMap<CandidateSet, Node> solved = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<CandidateSet, Integer> failed = new ConcurrentHashMap<>();
+    private final AtomicLong nodesExplored = new AtomicLong();
+    private int beamWidth = DEFAULT_BEAM_WIDTH;
+
+    public StrategySolver(WordleDictionary dictionary, PrintWriter log) {
+        this(dictionary, log, ForkJoinPool.commonPool());
+    }
+
+    public StrategySolver(WordleDictionary dictionary, PrintWriter log, ForkJoinPool pool) {
+        this.dictionary = dictionary;
+        this.log = log;
+        this.pool = pool;
+        // Повторы слов в словаре не дают новых ответов.
+        this.words = IntStream.range(0, dictionary.size())
+                .filter(id -> dictionary.indexOf(dictionary.getWord(id)) == id)
+                .toArray();
+        this.size = words.length;
+        // Таблица подсказок size x size должна поместиться в один массив: не больше 46 340 слов.
+        long cells = (long) size * size;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Слишком большой словарь для поиска стратегии: " + size
+                    + " слов, таблица подсказок заняла бы " + cells + " байт");
+        }
+        this.feedback = new byte[(int) cells];
+        pool.submit(() -> IntStream.range(0, size).parallel().forEach(guess -> {
+            String word = dictionary.getWord(words[guess]);
+            for (int answer = 0; answer < size; answer++) {
+                feedback[guess * size + answer] = (byte) dictionary.feedbackCode(word, words[answer]);
+            }
+        })).join();
+    }
+
+    public void setBeamWidth(int beamWidth) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Ширина перебора должна быть положительной");
+        }
+        this.beamWidth = beamWidth;
+    }
+
+    public long getNodesExplored() {
+        return nodesExplored.get();
+    }
+
+    // null, если в пределах maxAttempts решить все ответы не удалось.
+    public StrategyTree solve(int maxAttempts) {
+        int[] all = new int[size];
+        Arrays.setAll(all, i -> i);
+        Node root = pool.invoke(new SolveTask(all, maxAttempts));
+        if (root == null) {
+            log.println("Стратегия не найдена в пределах ширины перебора " + beamWidth
+                    + " за " + maxAttempts + " попыток");
+            return null;
+        }
+        StrategyTree tree = StrategyTree.of(dictionary, root.remap(words));
+        log.println("Стратегия найдена: первый ход " + tree.getOpening() + ", в худшем случае "
+                + tree.getWorstCase() + " попыток, узлов " + tree.getNodeCount());
+        return tree;
+    }
+
+    public StrategyTree solve() {
+        return solve(WordleGame.MAX_ATTEMPTS);
+    }
+
+    private Node solve(int[] candidates, int budget) {
+        if (budget <= 0) {
+            return null;
+        }
+        if (candidates.length == 1) {
+            return new Node(candidates[0], 1, new int[0], new Node[0]);
+        }
+        if (budget == 1) {
+            return null;
+        }
+
+        CandidateSet key = new CandidateSet(candidates);
+        Node known = solved.get(key);
+        if (known != null) {
+            return known.depth <= budget ? known : null;
+        }
+        Integer failedBudget = failed.get(key);
+        if (failedBudget != null && failedBudget >= budget) {
+            return null;
+        }
+        nodesExplored.incrementAndGet();
+
+        Node best = null;
+        int bound = budget;
+        for (int guess : rankGuesses(candidates)) {
+            Node node = tryGuess(guess, candidates, bound);
+            if (node != null) {
+                best = node;
+                bound = node.depth - 1;
+                // Меньше двух попыток для нескольких кандидатов не бывает.
+                if (bound < 2) {
+                    break;
+                }
+            }
+        }
+
+        if (best != null) {
+            solved.put(key, best);
+        } else {
+            failed.merge(key, budget, Math::max);
+        }
+        return best;
+    }
+
+    private Node tryGuess(int guess, int[] candidates, int bound) {
+        int[][] buckets = partition(guess, candidates);
+        int bucketCount = 0;
+        for (int code = 0; code < WordleDictionary.WINNING_CODE; code++) {
+            if (buckets[code] != null) {
+                if (bound <= 2 && buckets[code].length > 1) {
+                    return null;
+                }
+                bucketCount++;
+            }
+        }
+
+        int[] codes = new int[bucketCount];
+        int[][] groups = new int[bucketCount][];
+        for (int code = 0, i = 0; code < WordleDictionary.WINNING_CODE; code++) {
+            if (buckets[code] != null) {
+                codes[i] = code;
+                groups[i++] = buckets[code];
+            }
+        }
+
+        Node[] children = new Node[bucketCount];
+        if (candidates.length >= PARALLEL_THRESHOLD && bucketCount > 1) {
+            AtomicBoolean abort = new AtomicBoolean();
+            List<BucketTask> tasks = new ArrayList<>(bucketCount);
+            for (int[] group : groups) {
+                tasks.add(new BucketTask(group, bound - 1, abort));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            for (int i = 0; i < bucketCount; i++) {
+                children[i] = tasks.get(i).join();
+            }
+        } else {
+            for (int i = 0; i < bucketCount; i++) {
+                children[i] = solve(groups[i], bound - 1);
+                if (children[i] == null) {
+                    return null;
+                }
+            }
+        }
+
+        int depth = 1;
+        for (Node child : children) {
+            if (child == null) {
+                return null;
+            }
+            depth = Math.max(depth, child.depth + 1);
+        }
+        return new Node(guess, depth, codes, children);
+    }
+
+    private int[][] partition(int guess, int[] candidates) {
+        int[] counts = new int[WordleDictionary.FEEDBACK_CODES];
+        int row = guess * size;
+        for (int answer : candidates) {
+            counts[feedback[row + answer] & 0xFF]++;
+        }
+        int[][] buckets = new int[WordleDictionary.FEEDBACK_CODES][];
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                buckets[code] = new int[counts[code]];
+                counts[code] = 0;
+            }
+        }
+        for (int answer : candidates) {
+            int code = feedback[row + answer] & 0xFF;
+            buckets[code][counts[code]++] = answer;
+        }
+        return buckets;
+    }
+
+    // Ходы по возрастанию наибольшей группы, затем кандидаты раньше прочих,
+    // затем по числу групп. Ходы, не разбивающие кандидатов, отбрасываются.
+    private int[] rankGuesses(int[] candidates) {
+        boolean[] isCandidate = new boolean[size];
+        for (int answer : candidates) {
+            isCandidate[answer] = true;
+        }
+        long[] scores = new long[size];
+        int[] counts = new int[WordleDictionary.FEEDBACK_CODES];
+        int ranked = 0;
+        for (int guess = 0; guess < size; guess++) {
+            Arrays.fill(counts, 0);
+            int row = guess * size;
+            int largest = 0;
+            int groups = 0;
+            for (int answer : candidates) {
+                int count = ++counts[feedback[row + answer] & 0xFF];
+                largest = Math.max(largest, count);
+                if (count == 1) {
+                    groups++;
+                }
+            }
+            if (largest == candidates.length) {
+                continue;
+            }
+            scores[ranked++] = ((long) largest << 40) | ((isCandidate[guess] ? 0L : 1L) << 39)
+                    | ((long) (WordleDictionary.FEEDBACK_CODES - groups) << 31) | guess;
+        }
+        long[] order = Arrays.copyOf(scores, ranked);
+        Arrays.sort(order);
+        int[] result = new int[Math.min(beamWidth, ranked)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) (order[i] & Integer.MAX_VALUE);
+        }
+        return result;
+    }
+
+    private final class SolveTask extends RecursiveTask<Node> {
+        private final int[] candidates;
+        private final int budget;
+
+        SolveTask(int[] candidates, int budget) {
+            this.candidates = candidates;
+            this.budget = budget;
+        }
+
+        @Override
+        protected Node compute() {
+            return solve(candidates, budget);
+        }
+    }
+
+    private final class BucketTask extends RecursiveTask<Node> {
+        private final int[] candidates;
+        private final int budget;
+        private final AtomicBoolean abort;
+
+        BucketTask(int[] candidates, int budget, AtomicBoolean abort) {
+            this.candidates = candidates;
+            this.budget = budget;
+            this.abort = abort;
+        }
+
+        @Override
+        protected Node compute() {
+            if (abort.get()) {
+                return null;
+            }
+            Node node = solve(candidates, budget);
+            if (node == null) {
+                abort.set(true);
+            }
+            return node;
+        }
+    }
+
+    private static final class CandidateSet {
+        private final int[] ids;
+        private final int hash;
+
+        CandidateSet(int[] ids) {
+            this.ids = ids;
+            this.hash = Arrays.hashCode(ids);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CandidateSet && hash == ((CandidateSet) o).hash
+                    && Arrays.equals(ids, ((CandidateSet) o).ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Узел найденной стратегии; depth - число попыток в худшем случае, включая этот ход.
+    static final class Node {
+        final int guess;
+        final int depth;
+        private final int[] codes;
+        private final Node[] children;
+
+        Node(int guess, int depth, int[] codes, Node[] children) {
+            this.guess = guess;
+            this.depth = depth;
+            this.codes = codes;
+            this.children = children;
+        }
+
+        int[] childCodes() {
+            return codes;
+        }
+
+        Node child(int code) {
+            return children[Arrays.binarySearch(codes, code)];
+        }
+
+        int countNodes() {
+            int count = 1;
+            for (Node child : children) {
+                count += child.countNodes();
+            }
+            return count;
+        }
+
+        // Переводит номера слов из внутренней нумерации в номера словаря.
+        Node remap(int[] ids) {
+            Node[] mapped = new Node[children.length];
+            for (int i = 0; i < children.length; i++) {
+                mapped[i] = children[i].remap(ids);
+            }
+            return new Node(ids[guess], depth, codes, mapped);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+// Дерево стратегии: в каждом узле - слово для хода, рёбра - коды подсказок.
+// Узлы лежат в прямом порядке обхода, рёбра каждого узла отсортированы по коду,
+// поэтому подсказка по истории игры находится за O(глубина * log 243).
+public class StrategyTree {
+
+    private static final int MAGIC = 0x57525354;
+    private static final int VERSION = 1;
+    private static final int MAX_DEPTH = 64;
+
+    private final WordleDictionary dictionary;
+    private final int[] guesses;
+    private final int[] firstEdge;
+    private final int[] edgeCount;
+    private final byte[] edgeCodes;
+    private final int[] edgeTargets;
+    private final int worstCase;
+
+    private StrategyTree(WordleDictionary dictionary, int[] guesses, int[] firstEdge, int[] edgeCount,
+                         byte[] edgeCodes, int[] edgeTargets, int worstCase) {
+        this.dictionary = dictionary;
+        this.guesses = guesses;
+        this.firstEdge = firstEdge;
+        this.edgeCount = edgeCount;
+        this.edgeCodes = edgeCodes;
+        this.edgeTargets = edgeTargets;
+        this.worstCase = worstCase;
+    }
+
+    static StrategyTree of(WordleDictionary dictionary, StrategySolver.Node root) {
+        Builder builder = new Builder(root.countNodes());
+        builder.add(root);
+        return builder.build(dictionary, root.depth);
+    }
+
+    public String getOpening() {
+        return dictionary.getWord(guesses[0]);
+    }
+
+    public int getWorstCase() {
+        return worstCase;
+    }
+
+    public int getNodeCount() {
+        return guesses.length;
+    }
+
+    // null, если игра ушла с дерева: сделан ход не по стратегии.
+    public String suggest(List<String> guessHistory, List<String> hintHistory) {
+        int node = 0;
+        for (int i = 0; i < guessHistory.size(); i++) {
+            if (!dictionary.getWord(guesses[node]).equals(guessHistory.get(i))) {
+                return null;
+            }
+            node = child(node, WordleDictionary.codeFromHint(hintHistory.get(i)));
+            if (node < 0) {
+                return null;
+            }
+        }
+        return dictionary.getWord(guesses[node]);
+    }
+
+    private int child(int node, int code) {
+        int from = firstEdge[node];
+        int to = from + edgeCount[node];
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            int middleCode = edgeCodes[middle] & 0xFF;
+            if (middleCode < code) {
+                from = middle + 1;
+            } else if (middleCode > code) {
+                to = middle;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return -1;
+    }
+
+    // Формат: заголовок, затем узлы в прямом порядке: номер слова, число рёбер,
+    // для каждого ребра - код подсказки и сразу поддерево.
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(dictionary.size());
+        data.writeLong(fingerprint(dictionary));
+        data.writeByte(worstCase);
+        data.writeInt(guesses.length);
+        writeNode(data, 0);
+        data.flush();
+    }
+
+    private void writeNode(DataOutputStream data, int node) throws IOException {
+        writeVarInt(data, guesses[node]);
+        data.writeByte(edgeCount[node]);
+        for (int edge = firstEdge[node]; edge < firstEdge[node] + edgeCount[node]; edge++) {
+            data.writeByte(edgeCodes[edge]);
+            writeNode(data, edgeTargets[edge]);
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    public static StrategyTree read(InputStream in, WordleDictionary dictionary) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readUnsignedByte() != VERSION) {
+            throw new IOException("Неизвестный формат файла стратегии");
+        }
+        if (data.readInt() != dictionary.size() || data.readLong() != fingerprint(dictionary)) {
+            throw new IOException("Стратегия построена для другого словаря");
+        }
+        int worstCase = data.readUnsignedByte();
+        int nodes = data.readInt();
+        if (nodes <= 0) {
+            throw new IOException("Пустое дерево стратегии");
+        }
+
+        Builder builder = new Builder(nodes);
+        builder.read(data, dictionary.size(), 0);
+        if (builder.nodes != nodes) {
+            throw new IOException("Повреждённый файл стратегии: ожидалось узлов " + nodes);
+        }
+        return builder.build(dictionary, worstCase);
+    }
+
+    public static StrategyTree load(Path file, WordleDictionary dictionary) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, dictionary);
+        }
+    }
+
+    static long fingerprint(WordleDictionary dictionary) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < dictionary.size(); i++) {
+            hash = 31 * hash + dictionary.getWord(i).hashCode();
+        }
+        return hash;
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Повреждённый файл стратегии: слишком длинное число");
+    }
+
+    // Раскладывает узлы в массивы в прямом порядке обхода.
+    private static final class Builder {
+        private final int capacity;
+        private int[] guesses;
+        private int[] firstEdge;
+        private int[] edgeCount;
+        private byte[] edgeCodes;
+        private int[] edgeTargets;
+        private int nodes;
+        private int edges;
+
+        Builder(int capacity) {
+            this.capacity = capacity;
+            this.guesses = new int[capacity];
+            this.firstEdge = new int[capacity];
+            this.edgeCount = new int[capacity];
+            this.edgeCodes = new byte[Math.max(capacity - 1, 0)];
+            this.edgeTargets = new int[Math.max(capacity - 1, 0)];
+        }
+
+        int add(StrategySolver.Node node) {
+            int index = nodes++;
+            guesses[index] = node.guess;
+            int[] codes = node.childCodes();
+            int first = edges;
+            edges += codes.length;
+            firstEdge[index] = first;
+            edgeCount[index] = codes.length;
+            for (int i = 0; i < codes.length; i++) {
+                edgeCodes[first + i] = (byte) codes[i];
+                edgeTargets[first + i] = add(node.child(codes[i]));
+            }
+            return index;
+        }
+
+        int read(DataInputStream data, int dictionarySize, int depth) throws IOException {
+            if (nodes >= capacity || depth > MAX_DEPTH) {
+                throw new IOException("Повреждённый файл стратегии: лишние узлы");
+            }
+            int index = nodes++;
+            int guess = readVarInt(data);
+            if (guess < 0 || guess >= dictionarySize) {
+                throw new IOException("Повреждённый файл стратегии: неверный номер слова " + guess);
+            }
+            guesses[index] = guess;
+            int count = data.readUnsignedByte();
+            if (edges + count > edgeCodes.length) {
+                throw new IOException("Повреждённый файл стратегии: лишние рёбра");
+            }
+            int first = edges;
+            edges += count;
+            firstEdge[index] = first;
+            edgeCount[index] = count;
+            int previous = -1;
+            for (int i = 0; i < count; i++) {
+                int code = data.readUnsignedByte();
+                if (code <= previous || code >= WordleDictionary.WINNING_CODE) {
+                    throw new IOException("Повреждённый файл стратегии: неверный код подсказки " + code);
+                }
+                previous = code;
+                edgeCodes[first + i] = (byte) code;
+                edgeTargets[first + i] = read(data, dictionarySize, depth + 1);
+            }
+            return index;
+        }
+
+        StrategyTree build(WordleDictionary dictionary, int worstCase) {
+            if (edges != edgeCodes.length) {
+                edgeCodes = Arrays.copyOf(edgeCodes, edges);
+                edgeTargets = Arrays.copyOf(edgeTargets, edges);
+            }
+            return new StrategyTree(dictionary, guesses, firstEdge, edgeCount, edgeCodes, edgeTargets, worstCase);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ru.yandex.practicum;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Общий для всех игр кэш кандидатов по состоянию ограничений. Разбит на сегменты
+// с собственным LRU, чтобы потоки с разными ключами не мешали друг другу.
+// Ключ не знает словаря, поэтому кэш привязывается к словарю первой игры, которая его получила.
+public class SuggestionCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicReference<WordleDictionary> dictionary = new AtomicReference<>();
+
+    public SuggestionCache(int maxEntries) {
+        if (maxEntries < SEGMENTS) {
+            throw new IllegalArgumentException("Размер кэша должен быть не меньше " + SEGMENTS);
+        }
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxEntries / SEGMENTS);
+        }
+    }
+
+    void bind(WordleDictionary dictionary) {
+        if (!this.dictionary.compareAndSet(null, dictionary) && this.dictionary.get() != dictionary) {
+            throw new IllegalArgumentException("Кэш подсказок уже используется с другим словарём");
+        }
+    }
+
+    Entry get(ConstraintKey key, Function<ConstraintKey, Entry> loader) {
+        Segment segment = segments[key.hashCode() & (SEGMENTS - 1)];
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+
+        misses.increment();
+        entry = loader.apply(key);
+        synchronized (segment) {
+            Entry existing = segment.putIfAbsent(key, entry);
+            return existing != null ? existing : entry;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long total = hits.sum() + misses.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private class Segment extends LinkedHashMap<ConstraintKey, Entry> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ConstraintKey, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class Entry {
+        private final long[] candidates;
+        private final int count;
+        private final String suggestion;
+
+        Entry(long[] candidates, int count, String suggestion) {
+            this.candidates = candidates;
+            this.count = count;
+            this.suggestion = suggestion;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        String getSuggestion() {
+            return suggestion;
+        }
+
+        boolean contains(int id) {
+            return (candidates[id >>> 6] & (1L << id)) != 0;
+        }
+
+        // Номер случайного установленного бита.
+        int randomCandidate(Random random) {
+            int rank = random.nextInt(count);
+            for (int block = 0; block < candidates.length; block++) {
+                int bits = Long.bitCount(candidates[block]);
+                if (rank < bits) {
+                    long mask = candidates[block];
+                    for (int i = 0; i < rank; i++) {
+                        mask &= mask - 1;
+                    }
+                    return (block << 6) + Long.numberOfTrailingZeros(mask);
+                }
+                rank -= bits;
+            }
+            throw new IllegalStateException("Пустой набор кандидатов");
+        }
+    }
+}
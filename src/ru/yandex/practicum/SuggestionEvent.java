@@ -0,0 +1,26 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ru.yandex.practicum.Suggestion")
+@Label("Suggestion")
+@Category("Wordle")
+@Description("Вычисление подсказки в WordleGame.getSuggestion")
+class SuggestionEvent extends Event {
+
+    @Label("Candidates Before")
+    int candidatesBefore;
+
+    @Label("Candidates After")
+    int candidatesAfter;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Suggestion")
+    String suggestion;
+}
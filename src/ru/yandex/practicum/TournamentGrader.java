@@ -0,0 +1,243 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Строка журнала: "игрок номер_ответа попытка1 попытка2 ...", номер - индекс слова в словаре.
+// Победа за k попыток даёт MAX_ATTEMPTS + 1 - k очков.
+public class TournamentGrader {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final String[] END = new String[0];
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private final int workers;
+    private final LongAdder linesGraded = new LongAdder();
+    private final LongAdder malformedLines = new LongAdder();
+
+    public TournamentGrader(WordleDictionary dictionary, PrintWriter log) {
+        this(dictionary, log, Runtime.getRuntime().availableProcessors());
+    }
+
+    public TournamentGrader(WordleDictionary dictionary, PrintWriter log, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Количество потоков должно быть положительным");
+        }
+        this.dictionary = dictionary;
+        this.log = log;
+        this.workers = workers;
+    }
+
+    public Map<String, PlayerScore> grade(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return grade(reader);
+        }
+    }
+
+    // Читающий поток блокируется на заполненной очереди, поэтому в памяти одновременно
+    // не больше (2 * workers + 1) пачек строк: workers в очереди, по одной у каждого
+    // обработчика и одна заполняется читающим потоком.
+    public Map<String, PlayerScore> grade(BufferedReader reader) throws IOException {
+        Map<String, Totals> totals = new ConcurrentHashMap<>();
+        BlockingQueue<String[]> queue = new ArrayBlockingQueue<>(workers);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                while (true) {
+                    String[] batch = queue.take();
+                    if (batch == END) {
+                        return null;
+                    }
+                    for (String line : batch) {
+                        if (line == null) {
+                            break;
+                        }
+                        gradeLine(line, totals);
+                    }
+                }
+            }));
+        }
+
+        try {
+            String[] batch = new String[BATCH_SIZE];
+            int size = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch[size++] = line;
+                if (size == BATCH_SIZE) {
+                    put(queue, batch, futures);
+                    batch = new String[BATCH_SIZE];
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                put(queue, batch, futures);
+            }
+            for (int i = 0; i < workers; i++) {
+                put(queue, END, futures);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Проверка журнала прервана", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка проверки журнала: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, PlayerScore> result = new TreeMap<>();
+        for (Map.Entry<String, Totals> entry : totals.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        log.println("Проверено строк: " + linesGraded.sum() + ", некорректных: " + malformedLines.sum()
+                + ", игроков: " + result.size());
+        return Collections.unmodifiableMap(result);
+    }
+
+    public long getLinesGraded() {
+        return linesGraded.sum();
+    }
+
+    public long getMalformedLines() {
+        return malformedLines.sum();
+    }
+
+    private static void put(BlockingQueue<String[]> queue, String[] batch, List<Future<?>> futures)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            for (Future<?> future : futures) {
+                if (future.isDone()) {
+                    future.get();
+                }
+            }
+        }
+    }
+
+    void gradeLine(String line, Map<String, Totals> totals) {
+        linesGraded.increment();
+        int position = skipSpaces(line, 0);
+        int playerEnd = tokenEnd(line, position);
+        if (playerEnd == position) {
+            return;
+        }
+        String player = line.substring(position, playerEnd);
+
+        position = skipSpaces(line, playerEnd);
+        int idEnd = tokenEnd(line, position);
+        int answer = parseIndex(line, position, idEnd);
+
+        Totals playerTotals = totals.computeIfAbsent(player, p -> new Totals());
+        playerTotals.games.increment();
+        if (answer < 0 || answer >= dictionary.size()) {
+            invalid(playerTotals);
+            return;
+        }
+
+        int[] guesses = new int[WordleGame.MAX_ATTEMPTS];
+        int attempts = 0;
+        boolean won = false;
+        position = skipSpaces(line, idEnd);
+        while (position < line.length()) {
+            int end = tokenEnd(line, position);
+            if (won || attempts == WordleGame.MAX_ATTEMPTS || end - position != WordleDictionary.WORD_LENGTH) {
+                invalid(playerTotals);
+                return;
+            }
+            String guess = dictionary.getAlphabet().normalize(line.substring(position, end));
+            int id = dictionary.getAlphabet().isValidFormat(guess) ? dictionary.indexOf(guess) : -1;
+            if (id < 0 || repeats(guesses, attempts, id)) {
+                invalid(playerTotals);
+                return;
+            }
+            guesses[attempts++] = id;
+            won = dictionary.feedbackCode(guess, answer) == WordleDictionary.WINNING_CODE;
+            position = skipSpaces(line, end);
+        }
+
+        if (won) {
+            playerTotals.wins.increment();
+            playerTotals.points.add(WordleGame.MAX_ATTEMPTS + 1 - attempts);
+            playerTotals.winningAttempts.add(attempts);
+        }
+    }
+
+    private void invalid(Totals playerTotals) {
+        playerTotals.invalidGames.increment();
+        malformedLines.increment();
+    }
+
+    // Повтор ищется по номерам слов в словаре, то есть после нормализации: "ёлка" и "елка" - одно слово.
+    private static boolean repeats(int[] guesses, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (guesses[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipSpaces(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int tokenEnd(String line, int position) {
+        while (position < line.length() && !Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int parseIndex(String line, int from, int to) {
+        if (from == to || to - from > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    static class Totals {
+        final LongAdder games = new LongAdder();
+        final LongAdder wins = new LongAdder();
+        final LongAdder invalidGames = new LongAdder();
+        final LongAdder points = new LongAdder();
+        final LongAdder winningAttempts = new LongAdder();
+
+        PlayerScore snapshot(String player) {
+            return new PlayerScore(player, games.sum(), wins.sum(), invalidGames.sum(),
+                    points.sum(), winningAttempts.sum());
+        }
+    }
+}
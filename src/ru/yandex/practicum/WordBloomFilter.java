@@ -0,0 +1,94 @@
+package ru.yandex.practicum;
+
+import java.util.List;
+
+// Фильтр Блума над словами, упакованными в int (6 бит на номер буквы алфавита).
+public class WordBloomFilter {
+
+    private static final int BITS_PER_LETTER = 6;
+
+    private final Alphabet alphabet;
+    private final long[] bits;
+    private final long bitMask;
+    private final int hashCount;
+
+    public WordBloomFilter(List<String> words, double falsePositiveRate) {
+        this(words, Alphabet.RUSSIAN, falsePositiveRate);
+    }
+
+    public WordBloomFilter(List<String> words, Alphabet alphabet, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Вероятность ложного срабатывания должна быть в (0, 1): "
+                    + falsePositiveRate);
+        }
+        this.alphabet = alphabet;
+        int n = Math.max(1, words.size());
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long bitCount = Long.highestOneBit(Math.max(64, m - 1)) << 1;
+        this.bitMask = bitCount - 1;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        this.bits = new long[(int) (bitCount >>> 6)];
+
+        for (String word : words) {
+            int key = pack(word, alphabet);
+            if (key < 0) {
+                throw new IllegalArgumentException("Слово нельзя упаковать для фильтра: " + word);
+            }
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (h1 + (long) i * h2) & bitMask;
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+    }
+
+    public boolean mightContain(String word) {
+        int key = pack(word, alphabet);
+        if (key < 0) {
+            return false;
+        }
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitMask + 1;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // Упаковывает слово с учётом регистра и замен букв без создания строк;
+    // -1, если это не слово из 5 букв алфавита.
+    static int pack(String word, Alphabet alphabet) {
+        if (word == null || word.length() != WordleDictionary.WORD_LENGTH) {
+            return -1;
+        }
+        int key = 0;
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            int letter = alphabet.indexOf(Character.toLowerCase(word.charAt(i)));
+            if (letter < 0) {
+                return -1;
+            }
+            key = (key << BITS_PER_LETTER) | letter;
+        }
+        return key;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.yandex.practicum;
+
+import java.util.Locale;
+
+public class WordQuery {
+
+    private static final WordQuery ANY = new WordQuery(new char[WordleDictionary.WORD_LENGTH], "", "");
+
+    private final char[] positions;
+    private final String requiredLetters;
+    private final String excludedLetters;
+
+    private WordQuery(char[] positions, String requiredLetters, String excludedLetters) {
+        this.positions = positions;
+        this.requiredLetters = requiredLetters;
+        this.excludedLetters = excludedLetters;
+    }
+
+    public static WordQuery any() {
+        return ANY;
+    }
+
+    // '?' или '_' - любая буква; шаблон короче длины слова задаёт префикс.
+    public static WordQuery pattern(String pattern) {
+        String normalized = lowerCase(pattern);
+        if (normalized == null || normalized.length() > WordleDictionary.WORD_LENGTH) {
+            throw new IllegalArgumentException("Шаблон должен быть не длиннее "
+                    + WordleDictionary.WORD_LENGTH + " символов: " + pattern);
+        }
+        char[] positions = new char[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c != '?' && c != '_') {
+                positions[i] = c;
+            }
+        }
+        return new WordQuery(positions, "", "");
+    }
+
+    public WordQuery withLetters(String letters) {
+        return new WordQuery(positions, requiredLetters + requireLetters(letters), excludedLetters);
+    }
+
+    public WordQuery withoutLetters(String letters) {
+        return new WordQuery(positions, requiredLetters, excludedLetters + requireLetters(letters));
+    }
+
+    private static String requireLetters(String letters) {
+        if (letters == null) {
+            throw new IllegalArgumentException("Не указаны буквы");
+        }
+        return lowerCase(letters);
+    }
+
+    char getPosition(int index) {
+        return positions[index];
+    }
+
+    String getRequiredLetters() {
+        return requiredLetters;
+    }
+
+    String getExcludedLetters() {
+        return excludedLetters;
+    }
+
+    // Замены букв (ё -> е) выполняет индекс словаря по своему алфавиту.
+    private static String lowerCase(String letters) {
+        return letters == null ? null : letters.toLowerCase(Locale.ROOT);
+    }
+}
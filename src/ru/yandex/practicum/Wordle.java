@@ -1,29 +1,96 @@
 package ru.yandex.practicum;
 
+import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Scanner;
 
 public class Wordle {
 
     private static final String DICTIONARY_FILE = "words_ru.txt";
     private static final String LOG_FILE = "wordle.log";
+    private static final long DAILY_KEY = 0x5EED_2024_0D41_1EL;
 
     public static void main(String[] args) {
-        try (PrintWriter log = new PrintWriter(
-                new OutputStreamWriter(new FileOutputStream(LOG_FILE), StandardCharsets.UTF_8), true)) {
+        String batchFile = flagValue(args, "--batch");
+        try (PrintWriter log = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(LOG_FILE), StandardCharsets.UTF_8)), batchFile == null)) {
 
             log.println("Запуск игры Wordle");
+            registerMetricsInBackground(log);
+
+            String language = flagValue(args, "--lang");
+            Alphabet alphabet = language == null ? Alphabet.RUSSIAN : Alphabet.forName(language);
+            WordleDictionaryLoader loader = new WordleDictionaryLoader(alphabet, log);
+            loader.setCompressed(hasFlag(args, "--compressed"));
+            String dictionaryFile = language == null ? DICTIONARY_FILE : "words_" + alphabet.getName() + ".txt";
+            String snapshotFile = flagValue(args, "--snapshot");
+            WordleDictionary dictionary = snapshotFile == null ? loader.loadDictionary(dictionaryFile)
+                    : loader.loadDictionary(dictionaryFile, Paths.get(snapshotFile));
+
+            // --train только прогревает и выходит: так удобно снимать архив CDS
+            // (-XX:ArchiveClassesAtExit) с классов, которые нужны настоящей игре.
+            boolean train = hasFlag(args, "--train");
+            String warmupGames = flagValue(args, "--warmup");
+            if (warmupGames != null || train) {
+                WordleWarmup warmup = new WordleWarmup(dictionary, log);
+                if (warmupGames != null) {
+                    warmup.setGames(Integer.parseInt(warmupGames));
+                }
+                warmup.run();
+            }
+            if (train) {
+                log.println("Тренировочный запуск завершён");
+                return;
+            }
+
+            String solveFile = flagValue(args, "--solve");
+            if (solveFile != null) {
+                solveStrategy(dictionary, log, solveFile);
+                return;
+            }
+
+            if (batchFile != null) {
+                runBatch(dictionary, log, batchFile);
+                log.print(WordleMetrics.global().dump());
+                return;
+            }
 
-            WordleDictionaryLoader loader = new WordleDictionaryLoader(log);
-            WordleDictionary dictionary = loader.loadDictionary(DICTIONARY_FILE);
+            WordleGame game;
+            if (hasFlag(args, "--daily")) {
+                DailyWordScheduler scheduler = new DailyWordScheduler(dictionary, DAILY_KEY);
+                game = new WordleGame(dictionary, log, scheduler.getWordForDate(LocalDate.now()));
+            } else {
+                game = new WordleGame(dictionary, log);
+            }
+            game.setHardMode(hasFlag(args, "--hard"));
+            String strategyFile = flagValue(args, "--strategy");
+            if (strategyFile != null) {
+                game.setStrategyTree(loadStrategy(dictionary, strategyFile));
+            }
 
-            WordleGame game = new WordleGame(dictionary, log);
+            String statisticsFile = flagValue(args, "--stats");
+            PlayerStatistics statistics = statisticsFile == null ? null : loadStatistics(log, statisticsFile);
+            String player = flagValue(args, "--player");
+            if (player == null) {
+                player = System.getProperty("user.name", "игрок");
+            }
+            if (statistics != null) {
+                game.setStatistics(statistics, player);
+            }
 
             playGame(game, log);
+            if (statistics != null) {
+                saveStatistics(statistics, player, statisticsFile);
+            }
+            log.print(WordleMetrics.global().dump());
 
         } catch (IOException e) {
             System.err.println("Ошибка создания лог-файла: " + e.getMessage());
@@ -35,7 +102,97 @@ public class Wordle {
         }
     }
 
+    // Платформенный MBeanServer поднимается около полусекунды, поэтому метрики
+    // регистрируются в фоне и не задерживают загрузку словаря и первую попытку.
+    private static void registerMetricsInBackground(PrintWriter log) {
+        Thread.ofPlatform().daemon().name("wordle-metrics-mbean").start(() -> {
+            try {
+                WordleMetrics.global().registerMBean();
+            } catch (IllegalStateException e) {
+                log.println(e.getMessage());
+            }
+        });
+    }
+
+    private static boolean hasFlag(String[] args, String flag) {
+        for (String arg : args) {
+            if (arg.equals(flag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String flagValue(String[] args, String flag) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(flag)) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private static void runBatch(WordleDictionary dictionary, PrintWriter log, String file) {
+        WordleBatchRunner runner = new WordleBatchRunner(dictionary, log);
+        try {
+            if (file.equals("-")) {
+                runner.run(Channels.newChannel(System.in), System.out);
+            } else {
+                try (FileChannel channel = FileChannel.open(Paths.get(file))) {
+                    runner.run(channel, System.out);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Ошибка чтения файла сценария: " + e.getMessage());
+        }
+    }
+
+    private static void solveStrategy(WordleDictionary dictionary, PrintWriter log, String file) {
+        StrategySolver solver = new StrategySolver(dictionary, log);
+        StrategyTree tree = solver.solve();
+        if (tree == null) {
+            System.out.println("Стратегия на " + WordleGame.MAX_ATTEMPTS
+                    + " попыток не найдена в пределах ширины перебора " + StrategySolver.DEFAULT_BEAM_WIDTH);
+            return;
+        }
+        try {
+            tree.save(Paths.get(file));
+            System.out.println("Первый ход: " + tree.getOpening() + ", в худшем случае попыток: "
+                    + tree.getWorstCase());
+        } catch (IOException e) {
+            System.err.println("Ошибка записи стратегии: " + e.getMessage());
+        }
+    }
+
+    private static StrategyTree loadStrategy(WordleDictionary dictionary, String file) {
+        try {
+            return StrategyTree.load(Paths.get(file), dictionary);
+        } catch (IOException e) {
+            System.err.println("Стратегия не загружена: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static PlayerStatistics loadStatistics(PrintWriter log, String file) {
+        try {
+            return PlayerStatistics.loadOrCreate(Paths.get(file), log);
+        } catch (IOException e) {
+            System.err.println("Статистика не загружена: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void saveStatistics(PlayerStatistics statistics, String player, String file) {
+        System.out.println(statistics.get(player));
+        try {
+            statistics.save(Paths.get(file));
+        } catch (IOException e) {
+            System.err.println("Ошибка записи статистики: " + e.getMessage());
+        }
+    }
+
     private static void playGame(WordleGame game, PrintWriter log) {
+        PrintWriter out = new PrintWriter(System.out, true);
         Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8.name());
 
         System.out.println("WORDLE");
@@ -53,43 +210,46 @@ public class Wordle {
                 String suggestion = game.getSuggestion();
                 if (suggestion != null) {
                     System.out.println("Подсказка: " + suggestion);
-                    processGuess(game, suggestion, log);
+                    processGuess(game, suggestion, out, log);
                 } else {
                     System.out.println("Нет подходящих слов для подсказки.");
                 }
             } else {
-                processGuess(game, input, log);
+                processGuess(game, input, out, log);
             }
         }
 
-        printGameResult(game);
+        printGameResult(game, out);
     }
 
-    private static void processGuess(WordleGame game, String input, PrintWriter log) {
+    static void processGuess(WordleGame game, String input, PrintWriter out, PrintWriter log) {
         try {
             String hint = game.makeGuess(input);
-            System.out.println(WordleDictionary.normalize(input));
-            System.out.println(hint);
-            System.out.println();
+            out.println(game.getDictionary().getAlphabet().normalize(input));
+            out.println(hint);
+            out.println();
         } catch (InvalidWordException e) {
-            System.out.println("Ошибка: " + e.getMessage());
+            out.println("Ошибка: " + e.getMessage());
             log.println("Ошибка ввода: " + e.getMessage());
+        } catch (HardModeViolationException e) {
+            out.println("Ошибка: " + e.getMessage());
+            log.println("Нарушение сложного режима: " + e.getMessage());
         } catch (WordNotFoundInDictionaryException e) {
-            System.out.println("Ошибка: " + e.getMessage());
+            out.println("Ошибка: " + e.getMessage());
             log.println("Слово не найдено: " + e.getMessage());
         } catch (WordleException e) {
-            System.out.println("Ошибка: " + e.getMessage());
+            out.println("Ошибка: " + e.getMessage());
             log.println("Игровая ошибка: " + e.getMessage());
         }
     }
 
-    private static void printGameResult(WordleGame game) {
-        System.out.println("=== ИГРА ОКОНЧЕНА ===");
+    static void printGameResult(WordleGame game, PrintWriter out) {
+        out.println("=== ИГРА ОКОНЧЕНА ===");
         if (game.isWon()) {
             int attempts = WordleGame.MAX_ATTEMPTS - game.getAttemptsLeft();
-            System.out.println("Поздравляем! Вы угадали слово за " + attempts + " попыток!");
+            out.println("Поздравляем! Вы угадали слово за " + attempts + " попыток!");
         } else {
-            System.out.println("Вы проиграли. Загаданное слово: " + game.getAnswer());
+            out.println("Вы проиграли. Загаданное слово: " + game.getAnswer());
         }
     }
 }
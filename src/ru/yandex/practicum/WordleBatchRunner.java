@@ -0,0 +1,174 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+// Формат сценария: "= слово" (или "=") начинает новую игру с заданным (случайным) словом,
+// "?" запрашивает подсказку, любая другая непустая строка - попытка, "#" - комментарий.
+public class WordleBatchRunner {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private final StringBuilder line = new StringBuilder();
+    private PrintWriter out;
+    private WordleGame game;
+    // После строки "=" с негодным словом попытки пропускаются до следующей строки "=".
+    private boolean skippingGame;
+    private int gamesPlayed;
+    private long guessesProcessed;
+    private long linesSkipped;
+
+    public WordleBatchRunner(WordleDictionary dictionary, PrintWriter log) {
+        this.dictionary = dictionary;
+        this.log = log;
+    }
+
+    public void run(ReadableByteChannel in, OutputStream output) throws IOException {
+        out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE));
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = in.read(bytes) < 0;
+            bytes.flip();
+            CoderResult result = decoder.decode(bytes, chars, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (endOfInput) {
+                decoder.flush(chars);
+            }
+            bytes.compact();
+
+            chars.flip();
+            while (chars.hasRemaining()) {
+                char c = chars.get();
+                if (c == '\n') {
+                    processLine();
+                } else if (c != '\r') {
+                    line.append(c);
+                }
+            }
+            chars.clear();
+        }
+        if (line.length() > 0) {
+            processLine();
+        }
+        finishGame();
+        out.flush();
+        log.println("Пакетный режим завершён: игр " + gamesPlayed + ", попыток " + guessesProcessed
+                + ", пропущено строк " + linesSkipped);
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public long getGuessesProcessed() {
+        return guessesProcessed;
+    }
+
+    public long getLinesSkipped() {
+        return linesSkipped;
+    }
+
+    private void processLine() {
+        int start = 0;
+        int end = line.length();
+        while (start < end && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+
+        if (start == end || line.charAt(start) == '#') {
+            line.setLength(0);
+            return;
+        }
+
+        if (line.charAt(start) == '=') {
+            String answer = line.substring(start + 1, end).trim();
+            line.setLength(0);
+            startGame(answer);
+            return;
+        }
+
+        String input = line.substring(start, end);
+        line.setLength(0);
+
+        if (skippingGame) {
+            linesSkipped++;
+            return;
+        }
+        if (game == null) {
+            startGame("");
+        }
+        if (game.isGameOver()) {
+            linesSkipped++;
+            return;
+        }
+
+        guessesProcessed++;
+        if (input.equals("?")) {
+            String suggestion = game.getSuggestion();
+            if (suggestion != null) {
+                out.println("Подсказка: " + suggestion);
+                Wordle.processGuess(game, suggestion, out, log);
+            } else {
+                out.println("Нет подходящих слов для подсказки.");
+            }
+        } else {
+            Wordle.processGuess(game, input, out, log);
+        }
+    }
+
+    private void startGame(String answer) {
+        finishGame();
+        skippingGame = false;
+        if (!answer.isEmpty()) {
+            try {
+                answer = dictionary.requireGuess(answer);
+            } catch (WordleException e) {
+                out.println("Ошибка: загаданное слово не подходит: " + e.getMessage());
+                linesSkipped++;
+                skippingGame = true;
+                return;
+            }
+        }
+        game = answer.isEmpty()
+                ? new WordleGame(dictionary, log)
+                : new WordleGame(dictionary, log, answer);
+        gamesPlayed++;
+        out.println("Игра " + gamesPlayed);
+    }
+
+    private void finishGame() {
+        if (game != null) {
+            if (game.isGameOver()) {
+                Wordle.printGameResult(game, out);
+            } else {
+                out.println("Игра не завершена. Загаданное слово: " + game.getAnswer());
+            }
+            out.println();
+            out.flush();
+            game = null;
+        }
+    }
+}
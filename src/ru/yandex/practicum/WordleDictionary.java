@@ -2,58 +2,326 @@ package ru.yandex.practicum;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public class WordleDictionary {
 
     public static final int WORD_LENGTH = 5;
+    // Статические normalize, isValidFormat и letterIndex работают с русским алфавитом.
+    public static final int ALPHABET_SIZE = 32;
+    public static final int FEEDBACK_CODES = 243;
+    public static final int WINNING_CODE = FEEDBACK_CODES - 1;
+    private static final int[] POWERS_OF_THREE = {1, 3, 9, 27, 81};
+    // -Dwordle.filter=scalar отключает упакованный фильтр подсказок.
+    private static final boolean PACKED_FILTER = !"scalar".equals(System.getProperty("wordle.filter"));
+
+    private final Alphabet alphabet;
     private final List<String> words;
-    private final Set<String> wordSet;
+    // Упакованные буквы слов сжатого словаря; строится сразу, а не лениво, как packedFilter.
+    private final PackedWordFilter compressedLetters;
+    private final LetterIndex letterIndex;
+    private final Map<String, Integer> wordIds;
+    private final double[] weights;
+    private final AliasSampler sampler;
     private final Random random;
     private final PrintWriter log;
+    private volatile WordBloomFilter bloomFilter;
+    // Упакованный фильтр строится при первой фильтрации; packedResolved пишется после packedFilter.
+    private final Object packedLock = new Object();
+    private volatile PackedWordFilter packedFilter;
+    private volatile boolean packedResolved;
 
     public WordleDictionary(List<String> words, PrintWriter log) {
-        this.words = new ArrayList<>(words);
-        this.wordSet = new HashSet<>(words);
+        this(words, null, log);
+    }
+
+    public WordleDictionary(List<String> words, double[] weights, PrintWriter log) {
+        this(words, weights, Alphabet.RUSSIAN, log);
+    }
+
+    public WordleDictionary(List<String> words, double[] weights, Alphabet alphabet, PrintWriter log) {
+        this(new ArrayList<>(words), wordIds(words), weights, alphabet, log);
+    }
+
+    // wordIds == null: слова хранятся в FrontCodedWordList и ищутся через его indexOf.
+    private WordleDictionary(List<String> words, Map<String, Integer> wordIds, double[] weights,
+                             Alphabet alphabet, PrintWriter log) {
+        if (weights != null && weights.length != words.size()) {
+            throw new IllegalArgumentException("Количество весов не совпадает с количеством слов");
+        }
+        this.alphabet = alphabet;
+        this.words = words;
+        this.wordIds = wordIds;
+        this.weights = weights == null ? null : weights.clone();
+        this.sampler = weights == null || words.isEmpty() || allZero(weights) ? null : new AliasSampler(weights);
+        // Слова сжатого словаря - основные буквы алфавита, так что упаковка всегда удаётся.
+        this.compressedLetters = wordIds == null ? PackedWordFilter.build(words, alphabet) : null;
+        this.letterIndex = new LetterIndex(this.words, alphabet);
         this.random = new Random();
         this.log = log;
         log.println("Словарь загружен, слов: " + words.size());
+        if (weights != null && !words.isEmpty() && sampler == null) {
+            log.println("Все веса нулевые, слова выбираются равновероятно");
+        }
     }
 
-    public static String normalize(String word) {
-        if (word == null) {
-            return null;
+    // Сжатое хранение слов для больших списков: вместо строк и HashMap - FrontCodedWordList.
+    // Слова упорядочиваются по алфавиту, повторы отбрасываются (остаётся первый вес),
+    // поэтому номера слов не совпадают с порядком во входном списке. Слова должны быть
+    // нормализованы.
+    public static WordleDictionary compressed(List<String> words, double[] weights, Alphabet alphabet,
+                                              PrintWriter log) {
+        if (weights != null && weights.length != words.size()) {
+            throw new IllegalArgumentException("Количество весов не совпадает с количеством слов");
+        }
+        long[] order = new long[words.size()];
+        for (int i = 0; i < order.length; i++) {
+            int key = FrontCodedWordList.orderKey(words.get(i), alphabet);
+            if (key < 0) {
+                throw new IllegalArgumentException("Слово не подходит для сжатого словаря: " + words.get(i));
+            }
+            order[i] = (long) key << 32 | i;
+        }
+        Arrays.sort(order);
+
+        List<String> sorted = new ArrayList<>(order.length);
+        double[] sortedWeights = weights == null ? null : new double[order.length];
+        long previous = -1;
+        for (long entry : order) {
+            if (entry >>> 32 == previous) {
+                continue;
+            }
+            previous = entry >>> 32;
+            int index = (int) entry;
+            if (sortedWeights != null) {
+                sortedWeights[sorted.size()] = weights[index];
+            }
+            sorted.add(words.get(index));
+        }
+        FrontCodedWordList list = FrontCodedWordList.build(sorted, alphabet);
+        return new WordleDictionary(list, null,
+                sortedWeights == null ? null : Arrays.copyOf(sortedWeights, sorted.size()), alphabet, log);
+    }
+
+    // Со всеми нулевыми весами выборку с весами построить нельзя - остаётся равновероятная.
+    private static boolean allZero(double[] weights) {
+        for (double weight : weights) {
+            if (weight != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, Integer> wordIds(List<String> words) {
+        Map<String, Integer> wordIds = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            wordIds.putIfAbsent(words.get(i), i);
+        }
+        return wordIds;
+    }
+
+    private int id(String normalized) {
+        if (wordIds == null) {
+            return words.indexOf(normalized);
+        }
+        Integer id = wordIds.get(normalized);
+        return id == null ? -1 : id;
+    }
+
+    boolean isCompressed() {
+        return wordIds == null;
+    }
+
+    // Память под хранение самих слов; -1 для обычного словаря, где она зависит от JVM.
+    long wordStorageBytes() {
+        return words instanceof FrontCodedWordList ? ((FrontCodedWordList) words).sizeInBytes() : -1;
+    }
+
+    // Память под всё, что словарь держит на каждое слово помимо самих слов: индекс букв,
+    // упакованный фильтр (если построен), веса. Без заголовков объектов.
+    long indexBytes() {
+        long bytes = letterIndex.sizeInBytes();
+        PackedWordFilter packed = packedResolved ? packedFilter : compressedLetters;
+        if (packed != null) {
+            bytes += packed.sizeInBytes();
         }
-        return word.toLowerCase().replace('ё', 'е');
+        if (weights != null) {
+            bytes += weights.length * 8L;
+        }
+        if (sampler != null) {
+            bytes += sampler.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    // Номера слов usedWords в словаре; слова, которых в словаре нет, пропускаются.
+    int[] idsOf(Set<String> usedWords) {
+        int[] ids = new int[usedWords.size()];
+        int count = 0;
+        if (wordIds != null && wordIds.size() != words.size()) {
+            // Есть повторы: у одного слова несколько номеров.
+            for (int id = 0; id < words.size() && !usedWords.isEmpty(); id++) {
+                if (usedWords.contains(words.get(id))) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                    }
+                    ids[count++] = id;
+                }
+            }
+        } else {
+            for (String word : usedWords) {
+                int id = id(word);
+                if (id >= 0) {
+                    ids[count++] = id;
+                }
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    public static String normalize(String word) {
+        return Alphabet.RUSSIAN.normalize(word);
     }
 
     public static boolean isValidFormat(String word) {
-        if (word == null || word.length() != WORD_LENGTH) {
+        return Alphabet.RUSSIAN.isValidFormat(word);
+    }
+
+    public static int letterIndex(char c) {
+        return Alphabet.RUSSIAN.indexOf(c);
+    }
+
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    public boolean contains(String word) {
+        WordBloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(word)) {
+            WordleMetrics.global().recordContains(false);
             return false;
         }
-        for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-            if (c < 'а' || c > 'я') {
-                if (c != 'ё') {
-                    return false;
-                }
+        boolean found = id(alphabet.normalize(word)) >= 0;
+        WordleMetrics.global().recordContains(found);
+        return found;
+    }
+
+    // Общая для всех игр проверка попытки: формат и наличие в словаре. Возвращает нормализованное слово.
+    String requireGuess(String input) throws WordleException {
+        String normalized = alphabet.normalize(input);
+        if (!alphabet.isValidFormat(normalized)) {
+            throw new InvalidWordException(alphabet.getFormatMessage());
+        }
+        if (!contains(normalized)) {
+            throw new WordNotFoundInDictionaryException(normalized);
+        }
+        return normalized;
+    }
+
+    // Включает быстрый отсев не-слов перед поиском в словаре. Если какое-то слово словаря
+    // не упаковывается в фильтр, фильтр не включается.
+    public boolean enableBloomFilter(double falsePositiveRate) {
+        for (String word : words) {
+            if (WordBloomFilter.pack(word, alphabet) < 0 || !word.equals(alphabet.normalize(word))) {
+                log.println("Фильтр Блума не включён: слово '" + word + "' не подходит для упаковки");
+                return false;
             }
         }
+        WordBloomFilter filter = new WordBloomFilter(words, alphabet, falsePositiveRate);
+        bloomFilter = filter;
+        log.println("Фильтр Блума включён: " + filter.getBitCount() + " бит, хешей: " + filter.getHashCount());
         return true;
     }
 
-    public boolean contains(String word) {
-        return wordSet.contains(normalize(word));
+    public void disableBloomFilter() {
+        bloomFilter = null;
+    }
+
+    boolean usePackedFilter(boolean enabled) {
+        synchronized (packedLock) {
+            packedFilter = enabled ? buildPackedFilter() : null;
+            packedResolved = true;
+            return packedFilter != null;
+        }
+    }
+
+    private PackedWordFilter packedFilter() {
+        if (!packedResolved) {
+            synchronized (packedLock) {
+                if (!packedResolved) {
+                    packedFilter = PACKED_FILTER ? buildPackedFilter() : null;
+                    packedResolved = true;
+                }
+            }
+        }
+        return packedFilter;
+    }
+
+    private PackedWordFilter buildPackedFilter() {
+        if (compressedLetters != null) {
+            return compressedLetters;
+        }
+        PackedWordFilter filter = PackedWordFilter.build(words, alphabet);
+        if (filter == null) {
+            log.println("Упакованный фильтр не включён, используется посимвольная проверка");
+        }
+        return filter;
     }
 
     public String getRandomWord() {
         if (words.isEmpty()) {
             throw new EmptyDictionaryException("Словарь пуст");
         }
-        return words.get(random.nextInt(words.size()));
+        int index = sampler != null ? sampler.sample(random) : random.nextInt(words.size());
+        return words.get(index);
+    }
+
+    public int indexOf(String word) {
+        return id(alphabet.normalize(word));
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    public double getWeight(int index) {
+        return weights == null ? 1.0 : weights[index];
+    }
+
+    // Выбор кандидата пропорционально весу; без весов или при нулевой сумме - равновероятно.
+    public String chooseWeighted(List<String> candidates, Random random) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (weights == null) {
+            return candidates.get(random.nextInt(candidates.size()));
+        }
+        double total = 0;
+        for (String candidate : candidates) {
+            total += weights[id(candidate)];
+        }
+        if (total <= 0) {
+            return candidates.get(random.nextInt(candidates.size()));
+        }
+        double target = random.nextDouble() * total;
+        for (String candidate : candidates) {
+            target -= weights[id(candidate)];
+            if (target < 0) {
+                return candidate;
+            }
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+
+    public String getWord(int index) {
+        return words.get(index);
     }
 
     public int size() {
@@ -68,26 +336,103 @@ public class WordleDictionary {
         return new ArrayList<>(words);
     }
 
+    public Stream<String> search(WordQuery query) {
+        return letterIndex.stream(query).mapToObj(words::get);
+    }
+
+    public int count(WordQuery query) {
+        return letterIndex.count(query);
+    }
+
+    SuggestionCache.Entry candidateEntry(ConstraintKey key) {
+        long[] candidates = letterIndex.filter(key);
+        int count = 0;
+        double total = 0;
+        for (int block = 0; block < candidates.length; block++) {
+            count += Long.bitCount(candidates[block]);
+            if (weights != null) {
+                for (long mask = candidates[block]; mask != 0; mask &= mask - 1) {
+                    total += weights[(block << 6) + Long.numberOfTrailingZeros(mask)];
+                }
+            }
+        }
+        if (count == 0) {
+            return new SuggestionCache.Entry(candidates, 0, null);
+        }
+
+        SuggestionCache.Entry entry = new SuggestionCache.Entry(candidates, count, null);
+        int chosen = entry.randomCandidate(random);
+        if (total > 0) {
+            double target = random.nextDouble() * total;
+            search:
+            for (int block = 0; block < candidates.length; block++) {
+                for (long mask = candidates[block]; mask != 0; mask &= mask - 1) {
+                    int id = (block << 6) + Long.numberOfTrailingZeros(mask);
+                    target -= weights[id];
+                    chosen = id;
+                    if (target < 0) {
+                        break search;
+                    }
+                }
+            }
+        }
+        return new SuggestionCache.Entry(candidates, count, words.get(chosen));
+    }
+
     public List<String> filterByHints(Set<Character> excludedChars,
                                        Set<Character> requiredChars,
                                        char[] correctPositions,
                                        Set<Character>[] wrongPositions,
                                        Set<String> usedWords) {
+        long start = WordleMetrics.global().start();
         List<String> filtered = new ArrayList<>();
 
-        for (String word : words) {
-            if (usedWords.contains(word)) {
-                continue;
+        PackedWordFilter packed = packedFilter();
+        if (packed != null
+                && packed.supports(excludedChars, requiredChars, correctPositions, wrongPositions)) {
+            boolean[] matches = new boolean[packed.size()];
+            packed.filter(ConstraintKey.of(alphabet, excludedChars, requiredChars, correctPositions, wrongPositions),
+                    matches);
+            for (int i = 0; i < matches.length; i++) {
+                if (matches[i] && !usedWords.contains(words.get(i))) {
+                    filtered.add(words.get(i));
+                }
             }
-            if (matchesHints(word, excludedChars, requiredChars, correctPositions, wrongPositions)) {
-                filtered.add(word);
+        } else {
+            for (String word : words) {
+                if (usedWords.contains(word)) {
+                    continue;
+                }
+                if (matchesHints(word, excludedChars, requiredChars, correctPositions, wrongPositions)) {
+                    filtered.add(word);
+                }
             }
         }
 
+        WordleMetrics.global().recordFilter(start, filtered.size());
         log.println("Отфильтровано слов: " + filtered.size());
         return filtered;
     }
 
+    public CandidateQuery candidates(Set<Character> excludedChars,
+                                     Set<Character> requiredChars,
+                                     char[] correctPositions,
+                                     Set<Character>[] wrongPositions,
+                                     Set<String> usedWords) {
+        PackedWordFilter packed = packedFilter();
+        if (packed != null
+                && packed.supports(excludedChars, requiredChars, correctPositions, wrongPositions)) {
+            return new CandidateQuery(this, packed.matcher(
+                    ConstraintKey.of(alphabet, excludedChars, requiredChars, correctPositions, wrongPositions)), usedWords);
+        }
+        return new CandidateQuery(this, (from, to, matches) -> {
+            for (int id = from; id < to; id++) {
+                matches[id - from] = matchesHints(words.get(id), excludedChars, requiredChars,
+                        correctPositions, wrongPositions);
+            }
+        }, usedWords);
+    }
+
     private boolean matchesHints(String word,
                                   Set<Character> excludedChars,
                                   Set<Character> requiredChars,
@@ -156,4 +501,79 @@ public class WordleDictionary {
     public static boolean isWinningHint(String hint) {
         return hint.equals("+++++");
     }
+
+    // Код подсказки в троичной записи: 0 - '-', 1 - '^', 2 - '+', позиция i - разряд 3^i.
+    // Обе перегрузки ничего не выделяют: буквы ответа передаются в общий расчёт отдельными
+    // значениями, у сжатого словаря - прямо из упакованного слова.
+    public static int feedbackCode(String guess, String answer) {
+        return feedbackCode(guess, answer.charAt(0), answer.charAt(1), answer.charAt(2),
+                answer.charAt(3), answer.charAt(4));
+    }
+
+    public int feedbackCode(String guess, int answerIndex) {
+        if (compressedLetters == null) {
+            return feedbackCode(guess, words.get(answerIndex));
+        }
+        int word = compressedLetters.packedWord(answerIndex);
+        return feedbackCode(guess, PackedWordFilter.letterAt(word, 0, alphabet),
+                PackedWordFilter.letterAt(word, 1, alphabet), PackedWordFilter.letterAt(word, 2, alphabet),
+                PackedWordFilter.letterAt(word, 3, alphabet), PackedWordFilter.letterAt(word, 4, alphabet));
+    }
+
+    private static int feedbackCode(String guess, char a0, char a1, char a2, char a3, char a4) {
+        int greens = (guess.charAt(0) == a0 ? 1 : 0) | (guess.charAt(1) == a1 ? 2 : 0)
+                | (guess.charAt(2) == a2 ? 4 : 0) | (guess.charAt(3) == a3 ? 8 : 0)
+                | (guess.charAt(4) == a4 ? 16 : 0);
+
+        int used = greens;
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((greens & (1 << i)) != 0) {
+                code += 2 * POWERS_OF_THREE[i];
+                continue;
+            }
+            int match = unusedMatch(guess.charAt(i), used, a0, a1, a2, a3, a4);
+            if (match != 0) {
+                used |= match;
+                code += POWERS_OF_THREE[i];
+            }
+        }
+        return code;
+    }
+
+    // Бит первой ещё не использованной позиции ответа с буквой c; 0, если такой нет.
+    private static int unusedMatch(char c, int used, char a0, char a1, char a2, char a3, char a4) {
+        if ((used & 1) == 0 && a0 == c) {
+            return 1;
+        }
+        if ((used & 2) == 0 && a1 == c) {
+            return 2;
+        }
+        if ((used & 4) == 0 && a2 == c) {
+            return 4;
+        }
+        if ((used & 8) == 0 && a3 == c) {
+            return 8;
+        }
+        return (used & 16) == 0 && a4 == c ? 16 : 0;
+    }
+
+    public static String hintFromCode(int code) {
+        char[] hint = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int digit = code % 3;
+            hint[i] = digit == 2 ? '+' : digit == 1 ? '^' : '-';
+            code /= 3;
+        }
+        return new String(hint);
+    }
+
+    public static int codeFromHint(String hint) {
+        int code = 0;
+        for (int i = WORD_LENGTH - 1; i >= 0; i--) {
+            char h = hint.charAt(i);
+            code = code * 3 + (h == '+' ? 2 : h == '^' ? 1 : 0);
+        }
+        return code;
+    }
 }
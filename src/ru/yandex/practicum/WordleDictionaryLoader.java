@@ -7,29 +7,82 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class WordleDictionaryLoader {
 
+    public static final double DEFAULT_WEIGHT = 1.0;
+
+    private final Alphabet alphabet;
     private final PrintWriter log;
+    private boolean compressed;
 
     public WordleDictionaryLoader(PrintWriter log) {
+        this(Alphabet.RUSSIAN, log);
+    }
+
+    public WordleDictionaryLoader(Alphabet alphabet, PrintWriter log) {
+        this.alphabet = alphabet;
         this.log = log;
     }
 
+    // Сжатое хранение слов для больших корпусов, см. WordleDictionary.compressed.
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+
     public WordleDictionary loadDictionary(String filename) {
+        long start = WordleMetrics.global().start();
+        DictionaryLoadEvent event = WordleEvents.isRecorderInitialized() ? new DictionaryLoadEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
         log.println("Загрузка словаря из файла: " + filename);
         List<String> words = new ArrayList<>();
+        double[] weights = new double[1024];
+        boolean weighted = false;
+        int linesRead = 0;
 
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8))) {
 
             String line;
             while ((line = reader.readLine()) != null) {
-                String normalized = WordleDictionary.normalize(line.trim());
-                if (WordleDictionary.isValidFormat(normalized)) {
+                linesRead++;
+                int wordStart = skipWhitespace(line, 0);
+                int end = trimEnd(line, wordStart, line.length());
+                int wordEnd = end;
+                double weight = DEFAULT_WEIGHT;
+                boolean hasWeight = false;
+
+                int split = lastWhitespace(line, wordStart, end);
+                if (split > wordStart) {
+                    double parsed = parseWeight(line, split + 1, end);
+                    if (parsed >= 0) {
+                        weight = parsed;
+                        wordEnd = trimEnd(line, wordStart, split);
+                        hasWeight = true;
+                    }
+                }
+
+                if (wordEnd - wordStart != WordleDictionary.WORD_LENGTH) {
+                    continue;
+                }
+                String word = wordStart == 0 && wordEnd == line.length() ? line : line.substring(wordStart, wordEnd);
+                String normalized = alphabet.normalize(word);
+                if (alphabet.isValidFormat(normalized)) {
+                    if (words.size() == weights.length) {
+                        weights = Arrays.copyOf(weights, weights.length * 2);
+                    }
+                    weights[words.size()] = weight;
                     words.add(normalized);
+                    // Вес на отброшенной строке не делает словарь взвешенным.
+                    weighted |= hasWeight;
                 }
             }
 
@@ -43,7 +96,119 @@ public class WordleDictionaryLoader {
             throw new EmptyDictionaryException("Словарь пуст или не содержит подходящих слов: " + filename);
         }
 
+        WordleMetrics.global().recordDictionaryLoad(start, words.size());
+        if (event != null && event.shouldCommit()) {
+            event.file = filename;
+            event.wordsRead = linesRead;
+            event.wordsKept = words.size();
+            event.commit();
+        }
         log.println("Загружено слов из файла: " + words.size());
-        return new WordleDictionary(words, log);
+        double[] wordWeights = weighted ? Arrays.copyOf(weights, words.size()) : null;
+        return compressed ? WordleDictionary.compressed(words, wordWeights, alphabet, log)
+                : new WordleDictionary(words, wordWeights, alphabet, log);
+    }
+
+    // Загрузка через снимок: снимок не старше текстового файла читается вместо него,
+    // иначе текст разбирается как обычно и снимок пересохраняется.
+    public WordleDictionary loadDictionary(String filename, Path snapshot) {
+        long start = WordleMetrics.global().start();
+        try {
+            Path text = Paths.get(filename);
+            if (Files.exists(snapshot) && (!Files.exists(text)
+                    || Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(text)) >= 0)) {
+                WordleDictionary dictionary = DictionarySnapshot.load(snapshot, alphabet, compressed, log);
+                WordleMetrics.global().recordDictionaryLoad(start, dictionary.size());
+                return dictionary;
+            }
+            log.println("Снимок словаря отсутствует или устарел: " + snapshot);
+        } catch (IOException e) {
+            log.println("Снимок словаря не прочитан: " + e.getMessage());
+        }
+
+        WordleDictionary dictionary = loadDictionary(filename);
+        try {
+            DictionarySnapshot.save(dictionary, snapshot);
+            log.println("Снимок словаря сохранён: " + snapshot);
+        } catch (IOException e) {
+            log.println("Снимок словаря не сохранён: " + e.getMessage());
+        }
+        return dictionary;
+    }
+
+    private static int skipWhitespace(String line, int from) {
+        while (from < line.length() && Character.isWhitespace(line.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String line, int start, int end) {
+        while (end > start && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int lastWhitespace(String line, int start, int end) {
+        for (int i = end - 1; i > start; i--) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Разбирает неотрицательное число вида 123 или 0.25 прямо в строке, без подстрок;
+    // возвращает -1, если это не число.
+    static double parseWeight(String line, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        double value = 0;
+        double scale = 0;
+        boolean digits = false;
+        for (int i = from; i < to; i++) {
+            char c = line.charAt(i);
+            if (c == '.' && scale == 0) {
+                scale = 1;
+            } else if (c >= '0' && c <= '9') {
+                digits = true;
+                if (scale == 0) {
+                    value = value * 10 + (c - '0');
+                } else {
+                    scale /= 10;
+                    value += (c - '0') * scale;
+                }
+            } else {
+                return -1;
+            }
+        }
+        return digits ? value : -1;
+    }
+
+    public List<String> loadAllWords(String filename) {
+        log.println("Загрузка всех слов из файла: " + filename);
+        List<String> words = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String normalized = alphabet.normalize(line.trim());
+                if (!normalized.isEmpty()) {
+                    words.add(normalized);
+                }
+            }
+
+        } catch (FileNotFoundException e) {
+            throw new DictionaryLoadException("Файл словаря не найден: " + filename, e);
+        } catch (IOException e) {
+            throw new DictionaryLoadException("Ошибка чтения файла словаря: " + filename, e);
+        }
+
+        log.println("Загружено строк из файла: " + words.size());
+        return words;
     }
 }
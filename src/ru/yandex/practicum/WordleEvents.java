@@ -0,0 +1,16 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.FlightRecorder;
+
+// События JFR создаются, только когда JFR поднят: первая загрузка класса-события без него
+// инициализирует инфраструктуру JFR и добавляет к старту полсекунды. Запись, включённая
+// позже через jcmd, подхватывается со следующего события.
+final class WordleEvents {
+
+    private WordleEvents() {
+    }
+
+    static boolean isRecorderInitialized() {
+        return FlightRecorder.isInitialized();
+    }
+}
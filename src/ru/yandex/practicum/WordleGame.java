@@ -1,49 +1,39 @@
 package ru.yandex.practicum;
 
 import java.io.PrintWriter;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class WordleGame {
 
     public static final int MAX_ATTEMPTS = 6;
 
     private final String answer;
-    private int attemptsLeft;
     private final WordleDictionary dictionary;
     private final PrintWriter log;
-    private boolean gameOver;
-    private boolean won;
-
-    private final Set<Character> excludedChars;
-    private final Set<Character> requiredChars;
-    private final char[] correctPositions;
-    @SuppressWarnings("unchecked")
-    private final Set<Character>[] wrongPositions = new HashSet[WordleDictionary.WORD_LENGTH];
-    private final Set<String> usedWords;
-    private final List<String> guessHistory;
-    private final List<String> hintHistory;
+    private final AtomicReference<GameState> state;
+    private volatile boolean hardMode;
+    private volatile SuggestionCache suggestionCache;
+    private volatile StrategyTree strategyTree;
+    private volatile StatisticsTarget statistics;
+    private final Object eventsLock = new Object();
+    private volatile SubmissionPublisher<GameEvent> events;
+    // Под eventsLock: сколько принятых попыток опубликовано и событие конца партии.
+    private int published;
+    private GameEvent ending;
 
     public WordleGame(WordleDictionary dictionary, PrintWriter log) {
         this.dictionary = dictionary;
         this.log = log;
         this.answer = dictionary.getRandomWord();
-        this.attemptsLeft = MAX_ATTEMPTS;
-        this.gameOver = false;
-        this.won = false;
-
-        this.excludedChars = new HashSet<>();
-        this.requiredChars = new HashSet<>();
-        this.correctPositions = new char[WordleDictionary.WORD_LENGTH];
-        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
-            wrongPositions[i] = new HashSet<>();
-        }
-        this.usedWords = new HashSet<>();
-        this.guessHistory = new ArrayList<>();
-        this.hintHistory = new ArrayList<>();
+        this.state = new AtomicReference<>(GameState.initial(MAX_ATTEMPTS));
 
         log.println("Игра начата. Загаданное слово: " + answer);
     }
@@ -51,113 +41,274 @@ public class WordleGame {
     public WordleGame(WordleDictionary dictionary, PrintWriter log, String answer) {
         this.dictionary = dictionary;
         this.log = log;
-        this.answer = WordleDictionary.normalize(answer);
-        this.attemptsLeft = MAX_ATTEMPTS;
-        this.gameOver = false;
-        this.won = false;
-
-        this.excludedChars = new HashSet<>();
-        this.requiredChars = new HashSet<>();
-        this.correctPositions = new char[WordleDictionary.WORD_LENGTH];
-        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
-            wrongPositions[i] = new HashSet<>();
-        }
-        this.usedWords = new HashSet<>();
-        this.guessHistory = new ArrayList<>();
-        this.hintHistory = new ArrayList<>();
+        this.answer = dictionary.getAlphabet().normalize(answer);
+        this.state = new AtomicReference<>(GameState.initial(MAX_ATTEMPTS));
 
         log.println("Игра начата с заданным словом: " + this.answer);
     }
 
     public String makeGuess(String input) throws WordleException {
-        if (gameOver) {
-            throw new RuntimeException("Игра уже завершена");
+        long start = WordleMetrics.global().start();
+        GuessEvent event = WordleEvents.isRecorderInitialized() ? new GuessEvent() : null;
+        if (event != null) {
+            event.begin();
         }
-
-        String normalized = WordleDictionary.normalize(input);
-
-        if (!WordleDictionary.isValidFormat(normalized)) {
-            throw new InvalidWordException("Слово должно состоять из 5 русских букв");
+        try {
+            String hint = applyGuess(input);
+            WordleMetrics.global().recordGuess(start, true);
+            commitGuessEvent(event, input, hint);
+            return hint;
+        } catch (WordleException e) {
+            WordleMetrics.global().recordGuess(start, false);
+            commitGuessEvent(event, input, null);
+            throw e;
         }
+    }
 
-        if (!dictionary.contains(normalized)) {
-            throw new WordNotFoundInDictionaryException(normalized);
+    private void commitGuessEvent(GuessEvent event, String input, String hint) {
+        if (event != null && event.shouldCommit()) {
+            event.guess = input;
+            event.feedback = hint;
+            event.accepted = hint != null;
+            event.attemptsLeft = state.get().getAttemptsLeft();
+            event.commit();
         }
+    }
 
-        if (usedWords.contains(normalized)) {
-            throw new InvalidWordException("Это слово уже было использовано");
+    // Проверка и переход выполняются над снимком состояния; если другой поток успел
+    // изменить игру, попытка повторяется над новым снимком.
+    private String applyGuess(String input) throws WordleException {
+        if (state.get().isGameOver()) {
+            throw new RuntimeException("Игра уже завершена");
         }
 
-        attemptsLeft--;
-        usedWords.add(normalized);
-        guessHistory.add(normalized);
+        String normalized = dictionary.requireGuess(input);
 
         String hint = WordleDictionary.generateHint(normalized, answer);
-        hintHistory.add(hint);
 
-        updateHintState(normalized, hint);
+        while (true) {
+            GameState current = state.get();
+            if (current.isGameOver()) {
+                throw new RuntimeException("Игра уже завершена");
+            }
+
+            if (current.getUsedWords().contains(normalized)) {
+                throw new InvalidWordException("Это слово уже было использовано");
+            }
+
+            if (hardMode) {
+                current.checkHardMode(normalized);
+            }
 
-        log.println("Попытка: " + normalized + " -> " + hint + " (осталось: " + attemptsLeft + ")");
+            GameState next = current.withGuess(normalized, hint);
+            if (!state.compareAndSet(current, next)) {
+                continue;
+            }
 
-        if (WordleDictionary.isWinningHint(hint)) {
-            gameOver = true;
-            won = true;
-            log.println("Победа!");
-        } else if (attemptsLeft <= 0) {
-            gameOver = true;
-            won = false;
-            log.println("Поражение. Загаданное слово: " + answer);
+            log.println("Попытка: " + normalized + " -> " + hint + " (осталось: " + next.getAttemptsLeft() + ")");
+            if (next.isWon()) {
+                log.println("Победа!");
+            } else if (next.isGameOver()) {
+                log.println("Поражение. Загаданное слово: " + answer);
+            }
+            if (next.isGameOver()) {
+                recordStatistics(next);
+            }
+            publish(normalized, hint, next);
+            return hint;
         }
+    }
 
-        return hint;
+    // Переход в завершённое состояние выигрывает ровно один CAS, поэтому партия учитывается
+    // один раз, даже если последние попытки шли параллельно.
+    private void recordStatistics(GameState next) {
+        StatisticsTarget target = statistics;
+        if (target != null) {
+            target.statistics.record(target.player, next.isWon(), next.getGuessHistory().size());
+        }
     }
 
-    private void updateHintState(String guess, String hint) {
-        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
-            char c = guess.charAt(i);
-            char h = hint.charAt(i);
+    // Без подписчиков события не создаются. Параллельные попытки могут прийти вперемешку,
+    // порядок восстанавливается по номеру попытки. Публикация идёт под eventsLock и считает
+    // попытки: WIN/LOSS и закрытие издателя выполняет тот, кто опубликовал последнюю из
+    // принятых попыток, поэтому события каждой попытки приходят до завершения потока.
+    // Попытка к этому моменту уже принята, так что сбой издателя только записывается в лог.
+    private void publish(String guess, String hint, GameState next) {
+        synchronized (eventsLock) {
+            published++;
+            int attempt = next.getGuessHistory().size();
+            int left = next.getAttemptsLeft();
+            if (next.isGameOver()) {
+                ending = new GameEvent(null, next.isWon() ? GameEvent.Type.WIN : GameEvent.Type.LOSS,
+                        guess, hint, attempt, left, answer);
+            }
+            SubmissionPublisher<GameEvent> publisher = events;
+            if (publisher == null || publisher.isClosed()) {
+                return;
+            }
+            try {
+                if (publisher.hasSubscribers()) {
+                    publisher.submit(new GameEvent(null, GameEvent.Type.GUESS, guess, null, attempt, left, null));
+                    publisher.submit(new GameEvent(null, GameEvent.Type.HINT, guess, hint, attempt, left, null));
+                }
+                if (ending != null && published == ending.getAttempt()) {
+                    if (publisher.hasSubscribers()) {
+                        publisher.submit(ending);
+                    }
+                    publisher.close();
+                }
+            } catch (RuntimeException e) {
+                log.println("Не удалось опубликовать событие попытки " + attempt + ": " + e);
+                publisher.closeExceptionally(e);
+            }
+        }
+    }
 
-            if (h == '+') {
-                correctPositions[i] = c;
-                requiredChars.add(c);
-            } else if (h == '^') {
-                requiredChars.add(c);
-                wrongPositions[i].add(c);
-            } else {
-                excludedChars.add(c);
+    // Издатель событий партии: подписчик получает события с момента подписки, после победы
+    // или поражения - onComplete. Подписчик сам задаёт темп через request; когда его буфер
+    // заполнен, makeGuess ждёт, а не теряет события.
+    public Flow.Publisher<GameEvent> events() {
+        synchronized (eventsLock) {
+            if (events == null) {
+                events = new SubmissionPublisher<>();
+                if (state.get().isGameOver()) {
+                    events.close();
+                }
             }
+            return events;
         }
     }
 
     public String getSuggestion() {
-        if (gameOver) {
+        GameState current = state.get();
+        if (current.isGameOver()) {
             return null;
         }
 
-        List<String> candidates = dictionary.filterByHints(
-                excludedChars, requiredChars, correctPositions, wrongPositions, usedWords);
+        long start = WordleMetrics.global().start();
+        SuggestionEvent event = WordleEvents.isRecorderInitialized() ? new SuggestionEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        String suggestion;
+        int candidateCount;
+        String strategy;
+        SuggestionCache cache = suggestionCache;
+        StrategyTree tree = hardMode ? null : strategyTree;
+        String planned = tree == null ? null : tree.suggest(current.getGuessHistory(), current.getHintHistory());
+        SuggestionCache.Entry cached = cache == null || planned != null ? null
+                : cache.get(ConstraintKey.of(dictionary.getAlphabet(), current), dictionary::candidateEntry);
+        if (planned != null) {
+            suggestion = planned;
+            candidateCount = -1;
+            strategy = "tree";
+        } else if (cached != null && (cached.getSuggestion() == null
+                || !current.getUsedWords().contains(cached.getSuggestion()))) {
+            suggestion = cached.getSuggestion();
+            candidateCount = cached.getCount();
+            strategy = "cached";
+        } else {
+            CandidateQuery candidates = dictionary.candidates(
+                    current.getExcludedChars(), current.getRequiredChars(), current.getCorrectPositions(),
+                    current.getWrongPositions(), current.getUsedWords());
+            suggestion = candidates.sample(ThreadLocalRandom.current());
+            // Число кандидатов нужно только для события JFR, без записи его не считаем.
+            candidateCount = event != null && event.isEnabled() ? candidates.count() : -1;
+            strategy = dictionary.isWeighted() ? "weighted" : "random";
+        }
 
-        if (candidates.isEmpty()) {
+        if (suggestion == null) {
             log.println("Нет подходящих слов для подсказки");
-            return null;
+        } else {
+            log.println("Предложена подсказка: " + suggestion);
         }
 
-        Random random = new Random();
-        String suggestion = candidates.get(random.nextInt(candidates.size()));
-        log.println("Предложена подсказка: " + suggestion);
+        WordleMetrics.global().recordSuggestion(start);
+        if (event != null && event.shouldCommit()) {
+            event.candidatesBefore = dictionary.size();
+            event.candidatesAfter = candidateCount;
+            event.strategy = strategy;
+            event.suggestion = suggestion;
+            event.commit();
+        }
         return suggestion;
     }
 
+    // Как попытка guess разбила бы оставшихся кандидатов по подсказкам; withMembers - вместе
+    // со словами групп. Партия не меняется, уже использованные слова тоже можно проверить.
+    public GuessPartition partition(String guess, boolean withMembers) throws WordleException {
+        String normalized = dictionary.requireGuess(guess);
+        return new PartitionExplorer(dictionary, state.get()).partition(normalized, withMembers);
+    }
+
+    public GuessRanking rankGuesses(int k, Duration budget) {
+        return rankGuesses(k, budget, ForkJoinPool.commonPool());
+    }
+
+    // k попыток с наименьшим средним числом оставшихся кандидатов, при равенстве - сначала
+    // те, что могут оказаться ответом, и с большим числом групп. Попытки оцениваются
+    // параллельно в pool, пока не выйдет budget; кандидаты оцениваются первыми, поэтому и
+    // неполный рейтинг (GuessRanking.isComplete) полезен. В сложном режиме допустимы только
+    // кандидаты: любое слово, согласное со всеми подсказками, проходит его проверки.
+    public GuessRanking rankGuesses(int k, Duration budget, ForkJoinPool pool) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Количество попыток в рейтинге должно быть положительным");
+        }
+        long deadline = System.nanoTime() + budget.toNanos();
+        PartitionExplorer explorer = new PartitionExplorer(dictionary, state.get());
+        GuessRanking ranking = explorer.rank(explorer.guessPool(hardMode), k, deadline, pool);
+        log.println("Рейтинг попыток: кандидатов " + explorer.getCandidateCount() + ", оценено "
+                + ranking.getEvaluated() + " из " + ranking.getTotal());
+        return ranking;
+    }
+
+    public void setHardMode(boolean hardMode) {
+        this.hardMode = hardMode;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
+    GameState getState() {
+        return state.get();
+    }
+
+    public void setSuggestionCache(SuggestionCache suggestionCache) {
+        if (suggestionCache != null) {
+            suggestionCache.bind(dictionary);
+        }
+        this.suggestionCache = suggestionCache;
+    }
+
+    // Ходы по дереву могут нарушать сложный режим, поэтому в нём дерево не используется.
+    public void setStrategyTree(StrategyTree strategyTree) {
+        this.strategyTree = strategyTree;
+    }
+
+    // Итог партии попадёт в statistics под именем player, когда партия завершится;
+    // statistics == null отключает учёт. Пара пишется одной ссылкой, чтобы партия не попала
+    // в одну статистику под именем из другого вызова.
+    public void setStatistics(PlayerStatistics statistics, String player) {
+        Objects.requireNonNull(player, "Не указано имя игрока");
+        this.statistics = statistics == null ? null : new StatisticsTarget(statistics, player);
+    }
+
     public boolean isGameOver() {
-        return gameOver;
+        return state.get().isGameOver();
     }
 
     public boolean isWon() {
-        return won;
+        return state.get().isWon();
     }
 
     public int getAttemptsLeft() {
-        return attemptsLeft;
+        return state.get().getAttemptsLeft();
     }
 
     public String getAnswer() {
@@ -165,10 +316,20 @@ public class WordleGame {
     }
 
     public List<String> getGuessHistory() {
-        return new ArrayList<>(guessHistory);
+        return new ArrayList<>(state.get().getGuessHistory());
     }
 
     public List<String> getHintHistory() {
-        return new ArrayList<>(hintHistory);
+        return new ArrayList<>(state.get().getHintHistory());
+    }
+
+    private static final class StatisticsTarget {
+        final PlayerStatistics statistics;
+        final String player;
+
+        StatisticsTarget(PlayerStatistics statistics, String player) {
+            this.statistics = statistics;
+            this.player = player;
+        }
     }
 }
@@ -0,0 +1,216 @@
+package ru.yandex.practicum;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WordleMetrics implements WordleMetricsMXBean {
+
+    public static final String OBJECT_NAME = "ru.yandex.practicum:type=WordleMetrics";
+
+    private static final WordleMetrics GLOBAL =
+            new WordleMetrics(Boolean.parseBoolean(System.getProperty("wordle.metrics", "true")));
+
+    private volatile boolean enabled;
+
+    private final LongAdder guesses = new LongAdder();
+    private final LongAdder rejectedGuesses = new LongAdder();
+    private final LongHistogram guessLatency = new LongHistogram();
+    private final LongAdder suggestions = new LongAdder();
+    private final LongHistogram suggestionLatency = new LongHistogram();
+    private final LongHistogram filterLatency = new LongHistogram();
+    private final LongHistogram filterCandidates = new LongHistogram();
+    private final LongAdder containsCalls = new LongAdder();
+    private final LongAdder containsMisses = new LongAdder();
+    private final LongHistogram loadLatency = new LongHistogram();
+    private final LongAdder wordsLoaded = new LongAdder();
+
+    public WordleMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static WordleMetrics global() {
+        return GLOBAL;
+    }
+
+    // Возвращает 0, если метрики выключены: record* в этом случае ничего не делают.
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void recordGuess(long start, boolean accepted) {
+        if (start != 0) {
+            guessLatency.record(System.nanoTime() - start);
+            (accepted ? guesses : rejectedGuesses).increment();
+        }
+    }
+
+    public void recordSuggestion(long start) {
+        if (start != 0) {
+            suggestionLatency.record(System.nanoTime() - start);
+            suggestions.increment();
+        }
+    }
+
+    public void recordFilter(long start, int candidates) {
+        if (start != 0) {
+            filterLatency.record(System.nanoTime() - start);
+            filterCandidates.record(candidates);
+        }
+    }
+
+    public void recordContains(boolean found) {
+        if (enabled) {
+            containsCalls.increment();
+            if (!found) {
+                containsMisses.increment();
+            }
+        }
+    }
+
+    public void recordDictionaryLoad(long start, int words) {
+        if (start != 0) {
+            loadLatency.record(System.nanoTime() - start);
+            wordsLoaded.add(words);
+        }
+    }
+
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать MBean метрик: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getGuessCount() {
+        return guesses.sum();
+    }
+
+    @Override
+    public long getRejectedGuessCount() {
+        return rejectedGuesses.sum();
+    }
+
+    @Override
+    public long getGuessLatencyP50Nanos() {
+        return guessLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getGuessLatencyP99Nanos() {
+        return guessLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getSuggestionCount() {
+        return suggestions.sum();
+    }
+
+    @Override
+    public long getSuggestionLatencyP50Nanos() {
+        return suggestionLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getSuggestionLatencyP99Nanos() {
+        return suggestionLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getFilterCount() {
+        return filterLatency.getCount();
+    }
+
+    @Override
+    public double getFilterCandidatesMean() {
+        return filterCandidates.getMean();
+    }
+
+    @Override
+    public long getFilterLatencyP99Nanos() {
+        return filterLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getContainsCount() {
+        return containsCalls.sum();
+    }
+
+    @Override
+    public long getContainsMissCount() {
+        return containsMisses.sum();
+    }
+
+    @Override
+    public long getDictionaryLoadCount() {
+        return loadLatency.getCount();
+    }
+
+    @Override
+    public long getDictionaryLoadMaxNanos() {
+        return loadLatency.getMax();
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        line(out, "guess.count", guesses.sum());
+        line(out, "guess.rejected", rejectedGuesses.sum());
+        histogram(out, "guess.latency_ns", guessLatency);
+        line(out, "suggestion.count", suggestions.sum());
+        histogram(out, "suggestion.latency_ns", suggestionLatency);
+        histogram(out, "filter.latency_ns", filterLatency);
+        histogram(out, "filter.candidates", filterCandidates);
+        line(out, "contains.count", containsCalls.sum());
+        line(out, "contains.miss", containsMisses.sum());
+        histogram(out, "dictionary.load_ns", loadLatency);
+        line(out, "dictionary.words_loaded", wordsLoaded.sum());
+        return out.toString();
+    }
+
+    @Override
+    public void reset() {
+        guesses.reset();
+        rejectedGuesses.reset();
+        guessLatency.reset();
+        suggestions.reset();
+        suggestionLatency.reset();
+        filterLatency.reset();
+        filterCandidates.reset();
+        containsCalls.reset();
+        containsMisses.reset();
+        loadLatency.reset();
+        wordsLoaded.reset();
+    }
+
+    private static void line(StringBuilder out, String name, Object value) {
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void histogram(StringBuilder out, String name, LongHistogram histogram) {
+        line(out, name + ".count", histogram.getCount());
+        line(out, name + ".mean", String.format(Locale.ROOT, "%.1f", histogram.getMean()));
+        line(out, name + ".p50", histogram.getPercentile(50));
+        line(out, name + ".p99", histogram.getPercentile(99));
+        line(out, name + ".max", histogram.getMax());
+    }
+}
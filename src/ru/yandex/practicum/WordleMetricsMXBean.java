@@ -0,0 +1,40 @@
+package ru.yandex.practicum;
+
+public interface WordleMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getGuessCount();
+
+    long getRejectedGuessCount();
+
+    long getGuessLatencyP50Nanos();
+
+    long getGuessLatencyP99Nanos();
+
+    long getSuggestionCount();
+
+    long getSuggestionLatencyP50Nanos();
+
+    long getSuggestionLatencyP99Nanos();
+
+    long getFilterCount();
+
+    double getFilterCandidatesMean();
+
+    long getFilterLatencyP99Nanos();
+
+    long getContainsCount();
+
+    long getContainsMissCount();
+
+    long getDictionaryLoadCount();
+
+    long getDictionaryLoadMaxNanos();
+
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,69 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Random;
+
+// Прогрев перед обслуживанием: тихие партии прогоняют makeGuess, getSuggestion и отказы
+// на неверном вводе, чтобы JIT скомпилировал горячие пути до первой настоящей попытки.
+// Метрики на время прогрева выключаются, чтобы не смешивать его с игрой.
+public class WordleWarmup {
+
+    public static final int DEFAULT_GAMES = 300;
+    private static final String INVALID_INPUT = "?????";
+
+    private final WordleDictionary dictionary;
+    private final PrintWriter log;
+    private int games = DEFAULT_GAMES;
+    private long seed = 1;
+
+    public WordleWarmup(WordleDictionary dictionary, PrintWriter log) {
+        this.dictionary = dictionary;
+        this.log = log;
+    }
+
+    public void setGames(int games) {
+        if (games < 1) {
+            throw new IllegalArgumentException("Количество партий прогрева должно быть положительным: " + games);
+        }
+        this.games = games;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    // Длительность прогрева в наносекундах.
+    public long run() {
+        WordleMetrics metrics = WordleMetrics.global();
+        boolean metricsEnabled = metrics.isEnabled();
+        metrics.setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        Random random = new Random(seed);
+        long guesses = 0;
+        long start = System.nanoTime();
+        try {
+            for (int g = 0; g < games; g++) {
+                WordleGame game = new WordleGame(dictionary, silent, randomWord(random));
+                while (!game.isGameOver()) {
+                    String word = random.nextBoolean() ? game.getSuggestion() : randomWord(random);
+                    try {
+                        game.makeGuess(random.nextInt(4) == 0 ? INVALID_INPUT : word == null ? randomWord(random) : word);
+                        guesses++;
+                    } catch (WordleException e) {
+                        // Отказы - тоже часть прогрева: неверный ввод и повтор попытки.
+                    }
+                }
+            }
+        } finally {
+            metrics.setEnabled(metricsEnabled);
+        }
+        long elapsed = System.nanoTime() - start;
+        log.println("Прогрев: партий " + games + ", попыток " + guesses + ", " + elapsed / 1_000_000 + " мс");
+        return elapsed;
+    }
+
+    private String randomWord(Random random) {
+        return dictionary.getWord(random.nextInt(dictionary.size()));
+    }
+}
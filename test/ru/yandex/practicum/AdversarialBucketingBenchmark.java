@@ -0,0 +1,35 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+public class AdversarialBucketingBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 20_000;
+
+    public static void main(String[] args) {
+        PrintWriter log = new PrintWriter(new StringWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+        AdversarialWordleGame game = new AdversarialWordleGame(dictionary, log);
+
+        long checksum = run(game, dictionary, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        checksum += run(game, dictionary, MEASURE_ROUNDS);
+        long elapsed = System.nanoTime() - start;
+
+        double perPartition = (double) elapsed / MEASURE_ROUNDS;
+        System.out.println("Словарь: " + dictionary.size() + " слов");
+        System.out.printf("Разбиение всего словаря: %.1f мкс (%.1f нс на слово)%n",
+                perPartition / 1000.0, perPartition / dictionary.size());
+        System.out.println("checksum: " + checksum);
+    }
+
+    private static long run(AdversarialWordleGame game, WordleDictionary dictionary, int rounds) {
+        long checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            checksum += game.largestBucket(dictionary.getWord(i % dictionary.size()));
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,92 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdversarialWordleGameTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+    private AdversarialWordleGame game;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+        game = new AdversarialWordleGame(dictionary, log);
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(6, game.getAttemptsLeft());
+        assertEquals(10, game.getCandidateCount());
+        assertFalse(game.isGameOver());
+        assertNull(game.getAnswer());
+    }
+
+    @Test
+    void testKeepsLargestBucket() throws WordleException {
+        String hint = game.makeGuess("слово");
+
+        int expected = 0;
+        for (String word : dictionary.getWords()) {
+            if (WordleDictionary.generateHint("слово", word).equals(hint)) {
+                expected++;
+            }
+        }
+        assertEquals(expected, game.getCandidateCount());
+        assertTrue(expected >= 2);
+        assertFalse(game.isWon());
+    }
+
+    @Test
+    void testHintsStayConsistentWithFinalAnswer() throws WordleException {
+        for (String guess : Arrays.asList("слово", "книга", "автор", "ручка", "груша", "гонец")) {
+            if (game.isGameOver()) {
+                break;
+            }
+            game.makeGuess(guess);
+        }
+
+        assertTrue(game.isGameOver());
+        String answer = game.getAnswer();
+        assertNotNull(answer);
+        List<String> guesses = game.getGuessHistory();
+        List<String> hints = game.getHintHistory();
+        for (int i = 0; i < guesses.size(); i++) {
+            assertEquals(hints.get(i), WordleDictionary.generateHint(guesses.get(i), answer));
+        }
+    }
+
+    @Test
+    void testWinWhenSingleCandidateGuessed() throws WordleException {
+        WordleDictionary single = new WordleDictionary(Arrays.asList("герой", "слово"), log);
+        AdversarialWordleGame g = new AdversarialWordleGame(single, log);
+
+        assertEquals("--^--", g.makeGuess("слово"));
+        assertEquals("герой", g.getAnswer());
+        assertEquals("+++++", g.makeGuess("герой"));
+        assertTrue(g.isWon());
+    }
+
+    @Test
+    void testValidation() throws WordleException {
+        assertThrows(InvalidWordException.class, () -> game.makeGuess("слон"));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.makeGuess("абвгд"));
+        game.makeGuess("книга");
+        assertThrows(InvalidWordException.class, () -> game.makeGuess("книга"));
+    }
+}
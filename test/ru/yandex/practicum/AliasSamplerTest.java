@@ -0,0 +1,42 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasSamplerTest {
+
+    @Test
+    void testDistributionFollowsWeights() {
+        double[] weights = {1, 2, 3, 4, 0};
+        AliasSampler sampler = new AliasSampler(weights);
+        Random random = new Random(1);
+
+        int samples = 200_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < samples; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+            double expected = samples * weights[i] / 10.0;
+            assertEquals(expected, counts[i], samples * 0.01);
+        }
+        assertEquals(0, counts[4]);
+    }
+
+    @Test
+    void testSingleWeight() {
+        AliasSampler sampler = new AliasSampler(new double[]{5});
+        assertEquals(0, sampler.sample(new Random()));
+    }
+
+    @Test
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1, -1}));
+    }
+}
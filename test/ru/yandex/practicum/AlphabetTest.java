@@ -0,0 +1,131 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphabetTest {
+
+    private static PrintWriter log;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @Test
+    void testRussianMatchesLegacyIndexes() {
+        assertEquals(WordleDictionary.ALPHABET_SIZE, Alphabet.RUSSIAN.size());
+        for (char c = 'а'; c <= 'я'; c++) {
+            assertEquals(c - 'а', Alphabet.RUSSIAN.indexOf(c));
+            assertTrue(Alphabet.RUSSIAN.isCanonical(c));
+        }
+        assertEquals(Alphabet.RUSSIAN.indexOf('е'), Alphabet.RUSSIAN.indexOf('ё'));
+        assertFalse(Alphabet.RUSSIAN.isCanonical('ё'));
+        assertEquals(-1, Alphabet.RUSSIAN.indexOf('a'));
+        assertEquals("елка", Alphabet.RUSSIAN.normalize("ЁЛКА"));
+        assertTrue(Alphabet.RUSSIAN.isValidFormat("ёлочк"));
+        assertFalse(Alphabet.RUSSIAN.isValidFormat("hello"));
+    }
+
+    @Test
+    void testEnglishAndUkrainian() {
+        assertEquals(26, Alphabet.ENGLISH.size());
+        assertEquals("crane", Alphabet.ENGLISH.normalize("CRANE"));
+        assertTrue(Alphabet.ENGLISH.isValidFormat("crane"));
+        assertFalse(Alphabet.ENGLISH.isValidFormat("герой"));
+
+        assertEquals(33, Alphabet.UKRAINIAN.size());
+        assertEquals(4, Alphabet.UKRAINIAN.indexOf('ґ'));
+        assertTrue(Alphabet.UKRAINIAN.isValidFormat("ґанок"));
+        assertEquals("їжак", Alphabet.UKRAINIAN.normalize("ЇЖАК"));
+        assertFalse(Alphabet.UKRAINIAN.isValidFormat("объём"));
+        assertEquals(-1, Alphabet.UKRAINIAN.indexOf('ы'));
+    }
+
+    @Test
+    void testForName() {
+        assertSame(Alphabet.ENGLISH, Alphabet.forName("en"));
+        assertSame(Alphabet.UKRAINIAN, Alphabet.forName("uk"));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.forName("xx"));
+    }
+
+    @Test
+    void testInvalidDefinitions() {
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", "", "", "", ""));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", "", "aba", "", ""));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", "", "ab", "c", ""));
+        assertThrows(IllegalArgumentException.class, () -> new Alphabet("x", "", "ab", "c", "d"));
+    }
+
+    @Test
+    void testDictionariesSideBySide() throws WordleException {
+        WordleDictionary russian = new WordleDictionary(Arrays.asList("герой", "гонец", "слово"), log);
+        WordleDictionary english = new WordleDictionary(Arrays.asList("crane", "crate", "slate", "trace"),
+                null, Alphabet.ENGLISH, log);
+        WordleDictionary ukrainian = new WordleDictionary(Arrays.asList("ґанок", "їжаки", "слово"),
+                null, Alphabet.UKRAINIAN, log);
+
+        assertTrue(english.contains("CRANE"));
+        assertFalse(english.contains("герой"));
+        assertTrue(russian.contains("ГЕРОЙ"));
+        assertTrue(ukrainian.contains("Ґанок"));
+
+        WordleGame englishGame = new WordleGame(english, log, "trace");
+        assertEquals("^++^+", englishGame.makeGuess("crate"));
+        InvalidWordException error = assertThrows(InvalidWordException.class, () -> englishGame.makeGuess("герой"));
+        assertEquals("Слово должно состоять из 5 английских букв", error.getMessage());
+
+        WordleGame ukrainianGame = new WordleGame(ukrainian, log, "їжаки");
+        assertEquals("-----", ukrainianGame.makeGuess("слово"));
+        assertEquals("їжаки", ukrainianGame.getSuggestion());
+    }
+
+    @Test
+    void testPackedFilterAndBloomWithOtherAlphabets() {
+        List<String> words = Arrays.asList("crane", "crate", "slate", "trace", "zebra", "quick");
+        WordleDictionary english = new WordleDictionary(words, null, Alphabet.ENGLISH, log);
+        assertTrue(english.usePackedFilter(true));
+        assertTrue(english.enableBloomFilter(0.01));
+        assertTrue(english.contains("ZEBRA"));
+        assertFalse(english.contains("zzzzz"));
+
+        Set<Character> required = new HashSet<>(List.of('t'));
+        Set<Character> excluded = new HashSet<>(List.of('s'));
+        char[] correct = new char[5];
+        correct[4] = 'e';
+        @SuppressWarnings("unchecked")
+        Set<Character>[] wrong = new Set[5];
+        for (int i = 0; i < 5; i++) {
+            wrong[i] = new HashSet<>();
+        }
+        wrong[3].add('t');
+
+        List<String> packed = english.filterByHints(excluded, required, correct, wrong, new HashSet<>());
+        english.usePackedFilter(false);
+        List<String> scalar = english.filterByHints(excluded, required, correct, wrong, new HashSet<>());
+        assertEquals(List.of("trace"), packed);
+        assertEquals(scalar, packed);
+    }
+
+    @Test
+    void testAnalyticsUsesDictionaryAlphabet() {
+        WordleDictionary ukrainian = new WordleDictionary(Arrays.asList("ґанок", "їжаки"),
+                null, Alphabet.UKRAINIAN, log);
+        CountTable table = new DictionaryAnalytics(ukrainian).letterFrequencyByPosition();
+
+        assertEquals(33, table.getColumnLabels().size());
+        assertEquals(1, table.get(0, Alphabet.UKRAINIAN.indexOf('ґ')));
+        assertEquals(1, table.get(0, Alphabet.UKRAINIAN.indexOf('ї')));
+        assertEquals("ґ", table.getColumnLabels().get(4));
+        assertEquals(Set.of("ґанок"), ukrainian.search(WordQuery.pattern("Ґ")).collect(Collectors.toSet()));
+    }
+}
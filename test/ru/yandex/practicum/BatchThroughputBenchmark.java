@@ -0,0 +1,38 @@
+package ru.yandex.practicum;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class BatchThroughputBenchmark {
+
+    private static final int GAMES = 50_000;
+
+    public static void main(String[] args) throws Exception {
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt");
+
+        Random random = new Random(1);
+        StringBuilder script = new StringBuilder();
+        for (int g = 0; g < GAMES; g++) {
+            script.append("= ").append(dictionary.getWord(random.nextInt(dictionary.size()))).append('\n');
+            for (int i = 0; i < WordleGame.MAX_ATTEMPTS; i++) {
+                script.append(dictionary.getWord(random.nextInt(dictionary.size()))).append('\n');
+            }
+        }
+        byte[] input = script.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (int round = 0; round < 3; round++) {
+            WordleBatchRunner runner = new WordleBatchRunner(dictionary, silent);
+            long start = System.nanoTime();
+            runner.run(Channels.newChannel(new ByteArrayInputStream(input)), OutputStream.nullOutputStream());
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Игр: %d, попыток: %d, %.0f попыток/с%n",
+                    runner.getGamesPlayed(), runner.getGuessesProcessed(), runner.getGuessesProcessed() / seconds);
+        }
+    }
+}
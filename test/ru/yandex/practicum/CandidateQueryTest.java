@@ -0,0 +1,159 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateQueryTest {
+
+    private static final List<String> WORDS = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+            "автор", "город", "гроза", "груша", "горка");
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+    private Set<Character> excludedChars;
+    private Set<Character> requiredChars;
+    private char[] correctPositions;
+    private Set<Character>[] wrongPositions;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        dictionary = new WordleDictionary(WORDS, log);
+        excludedChars = new HashSet<>();
+        requiredChars = new HashSet<>();
+        correctPositions = new char[5];
+        wrongPositions = new HashSet[5];
+        for (int i = 0; i < 5; i++) {
+            wrongPositions[i] = new HashSet<>();
+        }
+    }
+
+    @Test
+    void testMatchesFilterByHints() {
+        correctPositions[0] = 'г';
+        requiredChars.add('о');
+        wrongPositions[1].add('о');
+        Set<String> usedWords = new HashSet<>(List.of("город"));
+
+        for (boolean packed : new boolean[]{true, false}) {
+            dictionary.usePackedFilter(packed);
+            List<String> expected = dictionary.filterByHints(excludedChars, requiredChars,
+                    correctPositions, wrongPositions, usedWords);
+            CandidateQuery query = dictionary.candidates(excludedChars, requiredChars,
+                    correctPositions, wrongPositions, usedWords);
+
+            List<String> iterated = new ArrayList<>();
+            query.forEach(iterated::add);
+            assertEquals(expected, iterated);
+            assertEquals(expected.size(), query.count());
+            assertEquals(expected.subList(0, 1), query.firstK(1));
+            assertEquals(expected, query.firstK(100));
+            assertTrue(expected.contains(query.sample(new Random(1))));
+        }
+    }
+
+    @Test
+    void testEmptyQuery() {
+        requiredChars.add('ф');
+        CandidateQuery query = dictionary.candidates(excludedChars, requiredChars,
+                correctPositions, wrongPositions, new HashSet<>());
+
+        assertTrue(query.isEmpty());
+        assertEquals(0, query.count());
+        assertNull(query.sample(new Random(1)));
+        assertTrue(query.firstK(3).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> query.iterator().next());
+    }
+
+    @Test
+    void testSampleIsUniform() {
+        correctPositions[0] = 'г';
+        CandidateQuery query = dictionary.candidates(excludedChars, requiredChars,
+                correctPositions, wrongPositions, new HashSet<>());
+        int candidates = query.count();
+
+        Map<String, Integer> hits = new HashMap<>();
+        Random random = new Random(42);
+        int samples = 12000;
+        for (int i = 0; i < samples; i++) {
+            hits.merge(query.sample(random), 1, Integer::sum);
+        }
+
+        assertEquals(candidates, hits.size());
+        double expected = (double) samples / candidates;
+        for (int count : hits.values()) {
+            assertEquals(expected, count, expected * 0.1);
+        }
+    }
+
+    @Test
+    void testWeightedSample() {
+        double[] weights = new double[WORDS.size()];
+        weights[WORDS.indexOf("гроза")] = 3;
+        weights[WORDS.indexOf("груша")] = 1;
+        WordleDictionary weighted = new WordleDictionary(WORDS, weights, log);
+        correctPositions[0] = 'г';
+        CandidateQuery query = weighted.candidates(excludedChars, requiredChars,
+                correctPositions, wrongPositions, new HashSet<>());
+
+        Random random = new Random(3);
+        int groza = 0;
+        for (int i = 0; i < 4000; i++) {
+            String sample = query.sample(random);
+            assertTrue(sample.equals("гроза") || sample.equals("груша"));
+            if (sample.equals("гроза")) {
+                groza++;
+            }
+        }
+        assertEquals(3000, groza, 150);
+    }
+
+    @Test
+    void testUsedWordsExcludedById() {
+        correctPositions[0] = 'г';
+        Set<String> usedWords = new HashSet<>(List.of("город", "гроза", "пирог"));
+        List<String> withRepeats = new ArrayList<>(WORDS);
+        withRepeats.add("город");
+        WordleDictionary repeated = new WordleDictionary(withRepeats, log);
+        WordleDictionary compressed = WordleDictionary.compressed(WORDS, null, Alphabet.RUSSIAN, log);
+
+        for (WordleDictionary source : List.of(repeated, compressed)) {
+            List<String> actual = new ArrayList<>();
+            source.candidates(excludedChars, requiredChars, correctPositions, wrongPositions, usedWords)
+                    .forEach(actual::add);
+            assertEquals(new HashSet<>(List.of("герой", "гонец", "груша", "горка")), new HashSet<>(actual));
+            assertEquals(4, actual.size());
+        }
+    }
+
+    @Test
+    void testZeroWeightsFallBackToUniform() {
+        double[] weights = new double[WORDS.size()];
+        weights[WORDS.indexOf("слово")] = 1;
+        WordleDictionary weighted = new WordleDictionary(WORDS, weights, log);
+        requiredChars.add('к');
+        CandidateQuery query = weighted.candidates(excludedChars, requiredChars,
+                correctPositions, wrongPositions, new HashSet<>());
+
+        assertTrue(List.of("книга", "ручка", "горка").contains(query.sample(new Random(5))));
+    }
+}
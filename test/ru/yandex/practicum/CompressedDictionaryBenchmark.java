@@ -0,0 +1,129 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Сжатое хранение слов против обычного: байт на слово и время contains. Обычное хранение -
+// список строк плюс HashMap слово -> номер, как в WordleDictionary; его размер меряется по
+// разнице занятой кучи, сжатое считается точно. Итог на слово добавляет индексы словаря
+// (WordleDictionary.indexBytes). Запросы - смесь слов и случайных строк.
+public class CompressedDictionaryBenchmark {
+
+    private static final int QUERIES = 1 << 16;
+    private static final int SYNTHETIC_WORDS = 500_000;
+
+    public static void main(String[] args) {
+        WordleMetrics.global().setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        List<String> russian = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt").getWords();
+        report("words_ru.txt", russian, silent);
+        report("синтетический", synthetic(SYNTHETIC_WORDS), silent);
+    }
+
+    private static void report(String name, List<String> source, PrintWriter log) {
+        long before = usedMemory();
+        List<String> words = new ArrayList<>(source.size());
+        Map<String, Integer> ids = new HashMap<>();
+        for (String word : source) {
+            // Копия, чтобы не считать строки, общие с исходным списком.
+            String copy = new String(word.toCharArray());
+            if (ids.putIfAbsent(copy, words.size()) == null) {
+                words.add(copy);
+            }
+        }
+        long plainBytes = usedMemory() - before;
+        // Иначе JIT может отпустить исходный список раньше замера, и разница выйдет меньше.
+        Reference.reachabilityFence(source);
+
+        WordleDictionary plain = new WordleDictionary(words, null, Alphabet.RUSSIAN, log);
+        WordleDictionary compressed = WordleDictionary.compressed(words, null, Alphabet.RUSSIAN, log);
+        // У сжатого словаря упакованный фильтр есть всегда, у обычного строится при первой фильтрации.
+        plain.usePackedFilter(true);
+        Set<String> hashSet = new HashSet<>(words);
+        char[][] queries = queries(words);
+
+        System.out.printf("%s, слов %d: список + HashMap %.1f байт/слово, сжатый список %.2f байт/слово%n",
+                name, words.size(), (double) plainBytes / words.size(),
+                (double) compressed.wordStorageBytes() / words.size());
+        System.out.printf("  всего с индексами: обычный словарь %.1f байт/слово, сжатый %.1f байт/слово%n",
+                (double) (plainBytes + plain.indexBytes()) / words.size(),
+                (double) (compressed.wordStorageBytes() + compressed.indexBytes()) / words.size());
+        for (int round = 0; round < 3; round++) {
+            System.out.printf("  HashSet %.1f нс, WordleDictionary %.1f нс, сжатый WordleDictionary %.1f нс"
+                            + " на запрос%n",
+                    measure(hashSet::contains, queries), measure(plain::contains, queries),
+                    measure(compressed::contains, queries));
+        }
+        if (ids.size() != plain.size()) {
+            throw new IllegalStateException();
+        }
+    }
+
+    // Половина запросов - слова словаря, половина - случайные строки из строчных букв.
+    private static char[][] queries(List<String> words) {
+        Random random = new Random(7);
+        char[][] queries = new char[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = i % 2 == 0 ? words.get(random.nextInt(words.size())).toCharArray() : randomWord(random);
+        }
+        return queries;
+    }
+
+    private static List<String> synthetic(int count) {
+        Random random = new Random(11);
+        Set<String> words = new HashSet<>();
+        while (words.size() < count) {
+            words.add(new String(randomWord(random)));
+        }
+        return new ArrayList<>(words);
+    }
+
+    private static char[] randomWord(Random random) {
+        char[] word = new char[WordleDictionary.WORD_LENGTH];
+        for (int j = 0; j < word.length; j++) {
+            word[j] = (char) ('а' + random.nextInt(WordleDictionary.ALPHABET_SIZE));
+        }
+        return word;
+    }
+
+    private interface Lookup {
+        boolean contains(String word);
+    }
+
+    private static double measure(Lookup lookup, char[][] queries) {
+        int found = 0;
+        for (int repeat = 0; repeat < 20; repeat++) {
+            for (char[] query : queries) {
+                if (lookup.contains(new String(query))) {
+                    found++;
+                }
+            }
+        }
+        long start = System.nanoTime();
+        for (int repeat = 0; repeat < 30; repeat++) {
+            for (char[] query : queries) {
+                if (lookup.contains(new String(query))) {
+                    found++;
+                }
+            }
+        }
+        double result = (double) (System.nanoTime() - start) / (30.0 * queries.length);
+        return found < 0 ? -1 : result;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,67 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Random;
+
+public class ContainsBenchmark {
+
+    private static final int QUERIES = 1 << 16;
+    private static final double VALID_SHARE = 0.05;
+
+    public static void main(String[] args) {
+        WordleMetrics.global().setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt");
+
+        // Смесь как у ботов: в основном случайные строки из 5 букв, немного настоящих слов.
+        Random random = new Random(7);
+        char[][] queries = new char[QUERIES][];
+        char[] letters = new char[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < QUERIES; i++) {
+            if (random.nextDouble() < VALID_SHARE) {
+                queries[i] = dictionary.getWord(random.nextInt(dictionary.size())).toCharArray();
+            } else {
+                for (int j = 0; j < letters.length; j++) {
+                    letters[j] = random.nextInt(10) == 0
+                            ? (char) ('А' + random.nextInt(WordleDictionary.ALPHABET_SIZE))
+                            : (char) ('а' + random.nextInt(WordleDictionary.ALPHABET_SIZE));
+                }
+                queries[i] = letters.clone();
+            }
+        }
+
+        for (int round = 0; round < 3; round++) {
+            dictionary.disableBloomFilter();
+            double plain = measure(dictionary, queries);
+            dictionary.enableBloomFilter(0.01);
+            double filtered1 = measure(dictionary, queries);
+            dictionary.enableBloomFilter(0.001);
+            double filtered01 = measure(dictionary, queries);
+            System.out.printf("HashSet: %.1f нс, Блум 1%%: %.1f нс, Блум 0.1%%: %.1f нс на запрос%n",
+                    plain, filtered1, filtered01);
+        }
+    }
+
+    // Строка создаётся заново для каждого запроса, как при разборе входящей попытки.
+    private static double measure(WordleDictionary dictionary, char[][] queries) {
+        int found = 0;
+        for (int repeat = 0; repeat < 30; repeat++) {
+            for (char[] query : queries) {
+                if (dictionary.contains(new String(query))) {
+                    found++;
+                }
+            }
+        }
+        long start = System.nanoTime();
+        for (int repeat = 0; repeat < 50; repeat++) {
+            for (char[] query : queries) {
+                if (dictionary.contains(new String(query))) {
+                    found++;
+                }
+            }
+        }
+        double result = (double) (System.nanoTime() - start) / (50.0 * queries.length);
+        return found < 0 ? -1 : result;
+    }
+}
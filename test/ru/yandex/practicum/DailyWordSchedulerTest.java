@@ -0,0 +1,86 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyWordSchedulerTest {
+
+    private static PrintWriter log;
+    private static WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка", "пирог");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    @Test
+    void testSameSeedGivesSameWord() {
+        DailyWordScheduler first = new DailyWordScheduler(dictionary, 42L);
+        DailyWordScheduler second = new DailyWordScheduler(dictionary, 42L);
+        LocalDate date = LocalDate.of(2026, 10, 19);
+
+        assertEquals(first.getWordForDate(date), second.getWordForDate(date));
+        assertTrue(dictionary.contains(first.getWordForDate(date)));
+    }
+
+    @Test
+    void testNoRepeatsWithinCycle() {
+        DailyWordScheduler scheduler = new DailyWordScheduler(dictionary, 7L);
+        int size = dictionary.size();
+
+        for (long cycleStart : new long[]{0, size, -size, 1000L * size}) {
+            Set<Integer> seen = new HashSet<>();
+            for (long seed = cycleStart; seed < cycleStart + size; seed++) {
+                int index = scheduler.indexFor(seed);
+                assertTrue(index >= 0 && index < size);
+                assertTrue(seen.add(index), "Повтор индекса " + index);
+            }
+        }
+    }
+
+    @Test
+    void testFullDictionaryPermutation() {
+        WordleDictionary fullDict = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+        DailyWordScheduler scheduler = new DailyWordScheduler(fullDict, 123L);
+
+        boolean[] seen = new boolean[fullDict.size()];
+        for (int seed = 0; seed < fullDict.size(); seed++) {
+            int index = scheduler.indexFor(seed);
+            assertFalse(seen[index]);
+            seen[index] = true;
+        }
+    }
+
+    @Test
+    void testDifferentKeysGiveDifferentSchedules() {
+        DailyWordScheduler first = new DailyWordScheduler(dictionary, 1L);
+        DailyWordScheduler second = new DailyWordScheduler(dictionary, 2L);
+
+        boolean differs = false;
+        for (long seed = 0; seed < dictionary.size(); seed++) {
+            if (first.indexFor(seed) != second.indexFor(seed)) {
+                differs = true;
+                break;
+            }
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testEmptyDictionary() {
+        WordleDictionary emptyDict = new WordleDictionary(Arrays.asList(), log);
+        assertThrows(EmptyDictionaryException.class, () -> new DailyWordScheduler(emptyDict, 1L));
+    }
+}
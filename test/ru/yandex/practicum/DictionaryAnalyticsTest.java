@@ -0,0 +1,94 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryAnalyticsTest {
+
+    private static PrintWriter log;
+    private static final List<String> WORDS = Arrays.asList("герой", "гонец", "слово", "книга", "ручка");
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @Test
+    void testLetterFrequencyByPosition() {
+        DictionaryAnalytics analytics = new DictionaryAnalytics(new WordleDictionary(WORDS, log));
+        CountTable table = analytics.letterFrequencyByPosition();
+
+        assertEquals(5, table.getRowCount());
+        assertEquals(2, table.get(0, WordleDictionary.letterIndex('г')));
+        assertEquals(2, table.get(4, WordleDictionary.letterIndex('а')));
+        assertEquals(5, table.getRowTotal(2));
+        assertEquals(25, table.getTotal());
+    }
+
+    @Test
+    void testBigramCounts() {
+        CountTable table = new DictionaryAnalytics(WORDS).bigramCounts();
+
+        assertEquals(1, table.get(WordleDictionary.letterIndex('к'), WordleDictionary.letterIndex('а')));
+        assertEquals(1, table.get(WordleDictionary.letterIndex('г'), WordleDictionary.letterIndex('е')));
+        assertEquals(20, table.getTotal());
+    }
+
+    @Test
+    void testHintPatternDistribution() {
+        DictionaryAnalytics analytics = new DictionaryAnalytics(WORDS);
+        CountTable forGuess = analytics.hintPatternDistribution("гонец");
+
+        assertEquals(5, forGuess.getTotal());
+        assertEquals(1, forGuess.get(0, WordleDictionary.WINNING_CODE));
+        int mixed = WordleDictionary.feedbackCode("гонец", "герой");
+        assertEquals(1, forGuess.get(0, mixed));
+        assertEquals("+^-^-", forGuess.getColumnLabels().get(mixed));
+
+        CountTable all = analytics.hintPatternDistribution();
+        assertEquals(25, all.getTotal());
+        assertEquals(5, all.get(0, WordleDictionary.WINNING_CODE));
+    }
+
+    @Test
+    void testParallelResultMatchesSequential() {
+        List<String> words = new WordleDictionaryLoader(log).loadAllWords("words_ru.txt");
+        CountTable table = new DictionaryAnalytics(words).letterFrequencyByPosition();
+
+        long[] expected = new long[table.getColumnCount()];
+        for (String word : words) {
+            if (word.length() > 3) {
+                int letter = WordleDictionary.letterIndex(word.charAt(3));
+                if (letter >= 0) {
+                    expected[letter]++;
+                }
+            }
+        }
+        for (int letter = 0; letter < expected.length; letter++) {
+            assertEquals(expected[letter], table.get(3, letter));
+        }
+        assertTrue(words.size() > 60_000);
+    }
+
+    @Test
+    void testCsvExport() {
+        String csv = new DictionaryAnalytics(WORDS).letterFrequencyByPosition().toCsv();
+        String[] lines = csv.split("\n");
+
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].startsWith("row,а,б,в"));
+        assertTrue(lines[1].startsWith("1,"));
+    }
+
+    @Test
+    void testInvalidGuess() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DictionaryAnalytics(WORDS).hintPatternDistribution("hello"));
+    }
+}
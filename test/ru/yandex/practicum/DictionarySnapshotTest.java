@@ -0,0 +1,124 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionarySnapshotTest {
+
+    private static PrintWriter log;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DictionarySnapshot.write(dictionary, out);
+
+        WordleDictionary loaded = DictionarySnapshot.read(new ByteArrayInputStream(out.toByteArray()),
+                Alphabet.RUSSIAN, log);
+        assertEquals(dictionary.getWords(), loaded.getWords());
+        assertFalse(loaded.isWeighted());
+        assertTrue(out.size() < dictionary.size() * WordleDictionary.WORD_LENGTH + 64);
+    }
+
+    @Test
+    void testKeepsWeightsAndAlphabet() throws IOException {
+        WordleDictionary dictionary = new WordleDictionary(List.of("crate", "trace"), new double[]{2.5, 0},
+                Alphabet.ENGLISH, log);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DictionarySnapshot.write(dictionary, out);
+
+        WordleDictionary loaded = DictionarySnapshot.read(new ByteArrayInputStream(out.toByteArray()),
+                Alphabet.ENGLISH, log);
+        assertEquals(List.of("crate", "trace"), loaded.getWords());
+        assertSame(Alphabet.ENGLISH, loaded.getAlphabet());
+        assertEquals(2.5, loaded.getWeight(0), 1e-12);
+        assertEquals(0, loaded.getWeight(1), 1e-12);
+
+        assertThrows(IOException.class,
+                () -> DictionarySnapshot.read(new ByteArrayInputStream(out.toByteArray()), Alphabet.RUSSIAN, log));
+    }
+
+    @Test
+    void testRejectsDamagedSnapshot() throws IOException {
+        WordleDictionary dictionary = new WordleDictionary(Arrays.asList("герой", "гонец"), log);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DictionarySnapshot.write(dictionary, out);
+        byte[] bytes = out.toByteArray();
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IOException.class,
+                () -> DictionarySnapshot.read(new ByteArrayInputStream(truncated), Alphabet.RUSSIAN, log));
+        byte[] extended = Arrays.copyOf(bytes, bytes.length + 1);
+        assertThrows(IOException.class,
+                () -> DictionarySnapshot.read(new ByteArrayInputStream(extended), Alphabet.RUSSIAN, log));
+        byte[] badLetter = bytes.clone();
+        badLetter[bytes.length - 1] = 40;
+        assertThrows(IOException.class,
+                () -> DictionarySnapshot.read(new ByteArrayInputStream(badLetter), Alphabet.RUSSIAN, log));
+    }
+
+    @Test
+    void testRejectsUnnormalizedWords() {
+        WordleDictionary dictionary = new WordleDictionary(Arrays.asList("ГЕРОЙ", "ёжики"), log);
+        assertThrows(IOException.class, () -> DictionarySnapshot.write(dictionary, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testLoaderUsesFreshSnapshotAndRebuildsStale() throws IOException {
+        Path directory = Files.createTempDirectory("wordle-snapshot");
+        Path text = directory.resolve("words.txt");
+        Path snapshot = directory.resolve("words.snap");
+        Files.write(text, Arrays.asList("герой", "гонец"), StandardCharsets.UTF_8);
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(log);
+
+        assertEquals(List.of("герой", "гонец"), loader.loadDictionary(text.toString(), snapshot).getWords());
+        assertTrue(Files.exists(snapshot));
+
+        // Снимок новее текста - читается он, даже если текст поменялся без смены времени.
+        Files.write(text, Arrays.asList("слово"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(text, FileTime.fromMillis(Files.getLastModifiedTime(snapshot).toMillis() - 1000));
+        assertEquals(List.of("герой", "гонец"), loader.loadDictionary(text.toString(), snapshot).getWords());
+
+        Files.setLastModifiedTime(text, FileTime.fromMillis(Files.getLastModifiedTime(snapshot).toMillis() + 1000));
+        assertEquals(List.of("слово"), loader.loadDictionary(text.toString(), snapshot).getWords());
+
+        Files.write(snapshot, new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(snapshot, FileTime.fromMillis(Files.getLastModifiedTime(text).toMillis() + 1000));
+        assertEquals(List.of("слово"), loader.loadDictionary(text.toString(), snapshot).getWords());
+        assertEquals(List.of("слово"), DictionarySnapshot.load(snapshot, Alphabet.RUSSIAN, log).getWords());
+    }
+
+    @Test
+    void testWarmupRestoresMetrics() {
+        WordleDictionary dictionary = new WordleDictionary(Arrays.asList("герой", "гонец", "слово", "книга"), log);
+        WordleMetrics metrics = WordleMetrics.global();
+        boolean enabled = metrics.isEnabled();
+        long guesses = metrics.getGuessCount();
+
+        WordleWarmup warmup = new WordleWarmup(dictionary, log);
+        warmup.setGames(20);
+        assertTrue(warmup.run() > 0);
+
+        assertEquals(enabled, metrics.isEnabled());
+        assertEquals(guesses, metrics.getGuessCount());
+        assertThrows(IllegalArgumentException.class, () -> warmup.setGames(0));
+    }
+}
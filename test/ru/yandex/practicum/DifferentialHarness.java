@@ -0,0 +1,116 @@
+package ru.yandex.practicum;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// Рандомизированная сверка: случаи генерируются кусками параллельно, у каждого куска
+// свой детерминированный Random, поэтому первое расхождение воспроизводится по seed.
+// Найденный случай жадно упрощается, пока находятся более простые падающие варианты.
+final class DifferentialHarness {
+
+    private static final int CHUNK = 4096;
+    private static final int MAX_SHRINK_STEPS = 1000;
+
+    // null, если движки сошлись, иначе описание расхождения.
+    interface Property<T> {
+        String check(T value);
+    }
+
+    static final class Failure<T> {
+        private final T original;
+        private final T shrunk;
+        private final String message;
+        private final int steps;
+
+        Failure(T original, T shrunk, String message, int steps) {
+            this.original = original;
+            this.shrunk = shrunk;
+            this.message = message;
+            this.steps = steps;
+        }
+
+        T getOriginal() {
+            return original;
+        }
+
+        T getShrunk() {
+            return shrunk;
+        }
+
+        String getMessage() {
+            return message;
+        }
+
+        int getSteps() {
+            return steps;
+        }
+
+        @Override
+        public String toString() {
+            return shrunk + ": " + message + " (исходный случай " + original + ", шагов упрощения: " + steps + ")";
+        }
+    }
+
+    private DifferentialHarness() {
+    }
+
+    // Множитель числа случаев: -Dwordle.differential.scale=10 для длинного прогона.
+    static int scaled(int cases) {
+        return (int) Math.min(Integer.MAX_VALUE,
+                (long) cases * Long.getLong("wordle.differential.scale", 1L));
+    }
+
+    static <T> Failure<T> find(long seed, int cases, Function<Random, T> generator,
+                               Property<T> property, Function<T, List<T>> shrinker) {
+        int chunks = (cases + CHUNK - 1) / CHUNK;
+        T failing = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    Random random = new Random(seed * 1_000_003L + chunk);
+                    int size = Math.min(CHUNK, cases - chunk * CHUNK);
+                    for (int i = 0; i < size; i++) {
+                        T value = generator.apply(random);
+                        if (test(property, value) != null) {
+                            return value;
+                        }
+                    }
+                    return null;
+                })
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        return failing == null ? null : shrink(failing, property, shrinker);
+    }
+
+    static <T> Failure<T> shrink(T failing, Property<T> property, Function<T, List<T>> shrinker) {
+        T current = failing;
+        String message = test(property, failing);
+        int steps = 0;
+        boolean progress = true;
+        while (progress && steps < MAX_SHRINK_STEPS) {
+            progress = false;
+            for (T candidate : shrinker.apply(current)) {
+                String candidateMessage = test(property, candidate);
+                if (candidateMessage != null) {
+                    current = candidate;
+                    message = candidateMessage;
+                    steps++;
+                    progress = true;
+                    break;
+                }
+            }
+        }
+        return new Failure<>(failing, current, message, steps);
+    }
+
+    // Исключение движка - тоже расхождение, а не падение всего прогона.
+    static <T> String test(Property<T> property, T value) {
+        try {
+            return property.check(value);
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+}
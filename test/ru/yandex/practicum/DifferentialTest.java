@@ -0,0 +1,477 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Сверка быстрых движков с эталонными generateHint, filterByHints (посимвольно) и contains
+// (без фильтра Блума). Слова строятся из нескольких букв, чтобы повторы букв были в каждом случае.
+class DifferentialTest {
+
+    private static final int FIXTURES = 8;
+    private static final int FIXTURE_WORDS = 400;
+
+    private static final PrintWriter SILENT = new PrintWriter(Writer.nullWriter());
+    private static List<Fixture> fixtures;
+
+    @BeforeAll
+    static void setUpAll() {
+        Random random = new Random(45);
+        fixtures = new ArrayList<>();
+        for (int i = 0; i < FIXTURES; i++) {
+            Alphabet alphabet = i % 4 == 3 ? Alphabet.ENGLISH : Alphabet.RUSSIAN;
+            char[] pool = letterPool(random, alphabet, 4 + i);
+            Set<String> words = new LinkedHashSet<>();
+            while (words.size() < FIXTURE_WORDS) {
+                words.add(randomWord(random, alphabet, pool));
+            }
+            fixtures.add(new Fixture(alphabet, new ArrayList<>(words)));
+        }
+    }
+
+    @Test
+    void testHintEnginesMatchGenerateHint() {
+        assertNoFailure("подсказки", DifferentialHarness.find(1, DifferentialHarness.scaled(1_000_000),
+                DifferentialTest::randomHintCase, DifferentialTest::checkHint, DifferentialTest::shrinkHint));
+    }
+
+    @Test
+    void testFilterEnginesMatchScalarFilter() {
+        assertNoFailure("фильтр", DifferentialHarness.find(2, DifferentialHarness.scaled(5_000),
+                DifferentialTest::randomFilterCase, DifferentialTest::checkFilter, DifferentialTest::shrinkFilter));
+    }
+
+    @Test
+    void testBloomFilterMatchesContains() {
+        assertNoFailure("contains", DifferentialHarness.find(3, DifferentialHarness.scaled(500_000),
+                DifferentialTest::randomContainsCase, DifferentialTest::checkContains,
+                DifferentialTest::shrinkContains));
+    }
+
+    // Сам стенд: наивная подсказка без answerUsed должна попасться и упроститься.
+    @Test
+    void testHarnessShrinksNaiveHint() {
+        DifferentialHarness.Property<HintCase> naive = value -> {
+            StringBuilder hint = new StringBuilder();
+            for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+                char c = value.guess.charAt(i);
+                hint.append(c == value.answer().charAt(i) ? '+' : value.answer().indexOf(c) >= 0 ? '^' : '-');
+            }
+            String expected = WordleDictionary.generateHint(value.guess, value.answer());
+            return expected.equals(hint.toString()) ? null : "ожидалось " + expected + ", получено " + hint;
+        };
+
+        DifferentialHarness.Failure<HintCase> failure = DifferentialHarness.find(4, 100_000,
+                DifferentialTest::randomHintCase, naive, DifferentialTest::shrinkHint);
+
+        assertNotNull(failure);
+        assertTrue(letterSum(failure.getShrunk()) <= letterSum(failure.getOriginal()));
+        assertNotNull(DifferentialHarness.test(naive, failure.getShrunk()));
+        for (HintCase simpler : shrinkHint(failure.getShrunk())) {
+            assertNull(DifferentialHarness.test(naive, simpler), "упрощение остановилось раньше: " + simpler);
+        }
+    }
+
+    @Test
+    void testHarnessReportsEngineException() {
+        DifferentialHarness.Failure<HintCase> failure = DifferentialHarness.find(5, 10,
+                DifferentialTest::randomHintCase, value -> {
+                    throw new IllegalStateException("сбой движка");
+                }, value -> Collections.emptyList());
+
+        assertNotNull(failure);
+        assertEquals("IllegalStateException: сбой движка", failure.getMessage());
+    }
+
+    private static void assertNoFailure(String name, DifferentialHarness.Failure<?> failure) {
+        if (failure != null) {
+            fail("Расхождение движков (" + name + "): " + failure);
+        }
+    }
+
+    // --- подсказки ---
+
+    private static final class HintCase {
+        final Fixture fixture;
+        final String guess;
+        final int answerId;
+
+        HintCase(Fixture fixture, String guess, int answerId) {
+            this.fixture = fixture;
+            this.guess = guess;
+            this.answerId = answerId;
+        }
+
+        String answer() {
+            return fixture.words.get(answerId);
+        }
+
+        @Override
+        public String toString() {
+            return "попытка " + guess + ", ответ " + answer();
+        }
+    }
+
+    private static HintCase randomHintCase(Random random) {
+        Fixture fixture = fixtures.get(random.nextInt(fixtures.size()));
+        // Попытка из букв самого ответа даёт больше всего повторов и жёлтых позиций.
+        int answerId = random.nextInt(fixture.words.size());
+        char[] pool = random.nextBoolean() ? fixture.wordLetters[answerId] : fixture.pool;
+        return new HintCase(fixture, randomWord(random, fixture.alphabet, pool), answerId);
+    }
+
+    private static String checkHint(HintCase value) {
+        String answer = value.answer();
+        String expected = WordleDictionary.generateHint(value.guess, answer);
+        int code = WordleDictionary.feedbackCode(value.guess, answer);
+        if (!expected.equals(WordleDictionary.hintFromCode(code))) {
+            return "feedbackCode: ожидалось " + expected + ", получено " + WordleDictionary.hintFromCode(code);
+        }
+        if (WordleDictionary.codeFromHint(expected) != code) {
+            return "codeFromHint: ожидалось " + code + ", получено " + WordleDictionary.codeFromHint(expected);
+        }
+        int byId = value.fixture.scalar.feedbackCode(value.guess, value.answerId);
+        if (byId != code) {
+            return "feedbackCode по номеру: ожидалось " + expected + ", получено " + WordleDictionary.hintFromCode(byId);
+        }
+        WordleDictionary compressed = value.fixture.compressed;
+        int compressedCode = compressed.feedbackCode(value.guess, compressed.indexOf(answer));
+        if (compressedCode != code) {
+            return "feedbackCode по номеру в сжатом словаре: ожидалось " + expected + ", получено "
+                    + WordleDictionary.hintFromCode(compressedCode);
+        }
+        return null;
+    }
+
+    // Упрощение: буква заменяется первой буквой алфавита или переименовывается в меньшую
+    // неиспользованную; сумма номеров букв строго падает, поэтому процесс конечен.
+    private static List<HintCase> shrinkHint(HintCase value) {
+        Alphabet alphabet = value.fixture.alphabet;
+        String answer = value.answer();
+        List<HintCase> result = new ArrayList<>();
+        for (int i = 0; i < WordleDictionary.WORD_LENGTH; i++) {
+            if (value.guess.charAt(i) != alphabet.letterAt(0)) {
+                result.add(hintCase(alphabet, replaceAt(value.guess, i, alphabet.letterAt(0)), answer));
+            }
+            if (answer.charAt(i) != alphabet.letterAt(0)) {
+                result.add(hintCase(alphabet, value.guess, replaceAt(answer, i, alphabet.letterAt(0))));
+            }
+        }
+        String both = value.guess + answer;
+        for (int i = 0; i < both.length(); i++) {
+            char from = both.charAt(i);
+            for (int to = 0; to < alphabet.indexOf(from); to++) {
+                char letter = alphabet.letterAt(to);
+                if (both.indexOf(letter) < 0) {
+                    result.add(hintCase(alphabet, value.guess.replace(from, letter), answer.replace(from, letter)));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static HintCase hintCase(Alphabet alphabet, String guess, String answer) {
+        return new HintCase(new Fixture(alphabet, List.of(answer)), guess, 0);
+    }
+
+    private static int letterSum(HintCase value) {
+        int sum = 0;
+        String both = value.guess + value.answer();
+        for (int i = 0; i < both.length(); i++) {
+            sum += value.fixture.alphabet.indexOf(both.charAt(i));
+        }
+        return sum;
+    }
+
+    // --- фильтр кандидатов ---
+
+    private static final class FilterCase {
+        final Fixture fixture;
+        final String answer;
+        final List<String> guesses;
+
+        FilterCase(Fixture fixture, String answer, List<String> guesses) {
+            this.fixture = fixture;
+            this.answer = answer;
+            this.guesses = guesses;
+        }
+
+        GameState state() {
+            GameState state = GameState.initial(guesses.size() + 1);
+            for (String guess : guesses) {
+                state = state.withGuess(guess, WordleDictionary.generateHint(guess, answer));
+            }
+            return state;
+        }
+
+        @Override
+        public String toString() {
+            List<String> history = new ArrayList<>();
+            for (String guess : guesses) {
+                history.add(guess + " " + WordleDictionary.generateHint(guess, answer));
+            }
+            return "ответ " + answer + ", попытки " + history + ", словарь " + fixture.words;
+        }
+    }
+
+    private static FilterCase randomFilterCase(Random random) {
+        Fixture fixture = fixtures.get(random.nextInt(fixtures.size()));
+        String answer = fixture.words.get(random.nextInt(fixture.words.size()));
+        List<String> guesses = new ArrayList<>();
+        int attempts = random.nextInt(WordleGame.MAX_ATTEMPTS);
+        for (int i = 0; i < attempts; i++) {
+            // Попытки не обязаны быть словами словаря: filterByHints этого не проверяет.
+            String guess = random.nextInt(4) == 0 ? randomWord(random, fixture.alphabet, fixture.pool)
+                    : fixture.words.get(random.nextInt(fixture.words.size()));
+            if (!guesses.contains(guess)) {
+                guesses.add(guess);
+            }
+        }
+        return new FilterCase(fixture, answer, guesses);
+    }
+
+    private static String checkFilter(FilterCase value) {
+        Fixture fixture = value.fixture;
+        GameState state = value.state();
+        Set<String> used = state.getUsedWords();
+
+        List<String> expected = fixture.scalar.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                state.getCorrectPositions(), state.getWrongPositions(), used);
+        if (!used.contains(value.answer) && !expected.contains(value.answer)) {
+            return "ответ не попал в кандидаты: " + expected;
+        }
+
+        List<String> packed = fixture.packed.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                state.getCorrectPositions(), state.getWrongPositions(), used);
+        if (!expected.equals(packed)) {
+            return "упакованный фильтр: ожидалось " + expected + ", получено " + packed;
+        }
+        List<String> compressed = fixture.compressed.filterByHints(state.getExcludedChars(),
+                state.getRequiredChars(), state.getCorrectPositions(), state.getWrongPositions(), used);
+        if (!inOrderOf(fixture.compressed, expected).equals(compressed)) {
+            return "сжатый словарь: ожидалось " + expected + ", получено " + compressed;
+        }
+
+        for (WordleDictionary dictionary : List.of(fixture.scalar, fixture.packed, fixture.compressed)) {
+            CandidateQuery query = dictionary.candidates(state.getExcludedChars(), state.getRequiredChars(),
+                    state.getCorrectPositions(), state.getWrongPositions(), used);
+            List<String> lazy = new ArrayList<>();
+            query.forEach(lazy::add);
+            if (!inOrderOf(dictionary, expected).equals(lazy)) {
+                return "ленивый запрос: ожидалось " + expected + ", получено " + lazy;
+            }
+            if (query.count() != expected.size() || query.isEmpty() != expected.isEmpty()) {
+                return "ленивый запрос: ожидалось кандидатов " + expected.size() + ", получено " + query.count();
+            }
+            String sample = query.sample(new Random(value.answer.hashCode()));
+            if (sample == null ? !expected.isEmpty() : !expected.contains(sample)) {
+                return "ленивый запрос выбрал не кандидата: " + sample;
+            }
+        }
+
+        // Битовые наборы индекса букв не учитывают уже сделанные попытки.
+        List<String> expectedAll = fixture.scalar.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                state.getCorrectPositions(), state.getWrongPositions(), Collections.emptySet());
+        SuggestionCache.Entry entry = fixture.cache.get(ConstraintKey.of(fixture.alphabet, state),
+                fixture.packed::candidateEntry);
+        List<String> indexed = new ArrayList<>();
+        for (int id = 0; id < fixture.words.size(); id++) {
+            if (entry.contains(id)) {
+                indexed.add(fixture.words.get(id));
+            }
+        }
+        if (!expectedAll.equals(indexed) || entry.getCount() != expectedAll.size()) {
+            return "индекс букв: ожидалось " + expectedAll + ", получено " + indexed;
+        }
+        if (entry.getSuggestion() == null ? !expectedAll.isEmpty() : !expectedAll.contains(entry.getSuggestion())) {
+            return "кэш подсказок выбрал не кандидата: " + entry.getSuggestion();
+        }
+        return null;
+    }
+
+    // Сжатый словарь хранит слова в своём порядке; результаты сравниваются в порядке номеров.
+    private static List<String> inOrderOf(WordleDictionary dictionary, List<String> words) {
+        List<String> ordered = new ArrayList<>(words);
+        ordered.sort(Comparator.comparingInt(dictionary::indexOf));
+        return ordered;
+    }
+
+    // Упрощение: убрать попытку, затем убрать из словаря куски слов, сохраняя ответ.
+    private static List<FilterCase> shrinkFilter(FilterCase value) {
+        List<FilterCase> result = new ArrayList<>();
+        for (int i = 0; i < value.guesses.size(); i++) {
+            List<String> guesses = new ArrayList<>(value.guesses);
+            guesses.remove(i);
+            result.add(new FilterCase(value.fixture, value.answer, guesses));
+        }
+        List<String> words = value.fixture.words;
+        for (int chunk = words.size() / 2; chunk >= 1; chunk /= 2) {
+            for (int from = 0; from < words.size(); from += chunk) {
+                List<String> smaller = new ArrayList<>(words.subList(0, from));
+                smaller.addAll(words.subList(Math.min(words.size(), from + chunk), words.size()));
+                if (smaller.contains(value.answer)) {
+                    result.add(new FilterCase(new Fixture(value.fixture.alphabet, smaller),
+                            value.answer, value.guesses));
+                }
+            }
+        }
+        return result;
+    }
+
+    // --- проверка слова ---
+
+    private static final class ContainsCase {
+        final Fixture fixture;
+        final String query;
+
+        ContainsCase(Fixture fixture, String query) {
+            this.fixture = fixture;
+            this.query = query;
+        }
+
+        @Override
+        public String toString() {
+            return "запрос " + (query == null ? "null" : "'" + query + "'");
+        }
+    }
+
+    private static ContainsCase randomContainsCase(Random random) {
+        Fixture fixture = fixtures.get(random.nextInt(fixtures.size()));
+        String word = random.nextBoolean() ? fixture.words.get(random.nextInt(fixture.words.size()))
+                : randomWord(random, fixture.alphabet, fixture.pool);
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            int roll = random.nextInt(10);
+            if (roll == 0) {
+                chars[i] = Character.toUpperCase(chars[i]);
+            } else if (roll == 1 && chars[i] == 'е') {
+                chars[i] = random.nextBoolean() ? 'ё' : 'Ё';
+            }
+        }
+        String query = new String(chars);
+        switch (random.nextInt(20)) {
+            case 0:
+                return new ContainsCase(fixture, query.substring(0, random.nextInt(query.length())));
+            case 1:
+                return new ContainsCase(fixture, query + fixture.pool[random.nextInt(fixture.pool.length)]);
+            case 2:
+                return new ContainsCase(fixture, replaceAt(query, random.nextInt(query.length()), "1 -ьi".charAt(
+                        random.nextInt(5))));
+            case 3:
+                return new ContainsCase(fixture, null);
+            default:
+                return new ContainsCase(fixture, query);
+        }
+    }
+
+    private static String checkContains(ContainsCase value) {
+        boolean expected = value.fixture.scalar.contains(value.query);
+        boolean bloom = value.fixture.packed.contains(value.query);
+        if (expected != bloom) {
+            return "ожидалось " + expected + ", с фильтром Блума " + bloom;
+        }
+        boolean compressed = value.fixture.compressed.contains(value.query);
+        return expected == compressed ? null : "ожидалось " + expected + ", в сжатом словаре " + compressed;
+    }
+
+    private static List<ContainsCase> shrinkContains(ContainsCase value) {
+        List<ContainsCase> result = new ArrayList<>();
+        if (value.query == null) {
+            return result;
+        }
+        String lower = value.query.toLowerCase(Locale.ROOT);
+        if (!lower.equals(value.query)) {
+            result.add(new ContainsCase(value.fixture, lower));
+        }
+        if (value.query.indexOf('ё') >= 0) {
+            result.add(new ContainsCase(value.fixture, value.query.replace('ё', 'е')));
+        }
+        if (!value.query.isEmpty()) {
+            result.add(new ContainsCase(value.fixture, value.query.substring(0, value.query.length() - 1)));
+        }
+        return result;
+    }
+
+    // --- общие заготовки ---
+
+    // Словарь в разных обличьях: эталонный посимвольный, упакованный с фильтром Блума и кэш подсказок
+    // к нему, сжатый (FrontCodedWordList).
+    private static final class Fixture {
+        final Alphabet alphabet;
+        final List<String> words;
+        final char[] pool;
+        final char[][] wordLetters;
+        final WordleDictionary scalar;
+        final WordleDictionary packed;
+        final WordleDictionary compressed;
+        final SuggestionCache cache = new SuggestionCache(1024);
+
+        Fixture(Alphabet alphabet, List<String> words) {
+            this.alphabet = alphabet;
+            this.words = words;
+            this.pool = letters(String.join("", words));
+            this.wordLetters = new char[words.size()][];
+            for (int i = 0; i < words.size(); i++) {
+                wordLetters[i] = letters(words.get(i));
+            }
+            this.scalar = new WordleDictionary(words, null, alphabet, SILENT);
+            this.packed = new WordleDictionary(words, null, alphabet, SILENT);
+            this.compressed = WordleDictionary.compressed(words, null, alphabet, SILENT);
+            scalar.usePackedFilter(false);
+            if (!packed.usePackedFilter(true) || !packed.enableBloomFilter(0.05)) {
+                throw new IllegalStateException("Быстрые движки не включились для словаря " + words);
+            }
+        }
+
+        private static char[] letters(String text) {
+            StringBuilder distinct = new StringBuilder();
+            for (int i = 0; i < text.length(); i++) {
+                if (distinct.indexOf(String.valueOf(text.charAt(i))) < 0) {
+                    distinct.append(text.charAt(i));
+                }
+            }
+            return distinct.toString().toCharArray();
+        }
+    }
+
+    private static char[] letterPool(Random random, Alphabet alphabet, int size) {
+        Set<Character> letters = new HashSet<>();
+        while (letters.size() < size) {
+            letters.add(alphabet.letterAt(random.nextInt(alphabet.size())));
+        }
+        char[] pool = new char[size];
+        int i = 0;
+        for (char c : letters) {
+            pool[i++] = c;
+        }
+        return pool;
+    }
+
+    // Буквы из пула с редкими вкраплениями остального алфавита.
+    private static String randomWord(Random random, Alphabet alphabet, char[] pool) {
+        char[] word = new char[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = random.nextInt(16) == 0 ? alphabet.letterAt(random.nextInt(alphabet.size()))
+                    : pool[random.nextInt(pool.length)];
+        }
+        return new String(word);
+    }
+
+    private static String replaceAt(String word, int index, char c) {
+        return word.substring(0, index) + c + word.substring(index + 1);
+    }
+}
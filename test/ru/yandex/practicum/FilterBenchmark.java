@@ -0,0 +1,87 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+public class FilterBenchmark {
+
+    private static final int STATES = 256;
+
+    public static void main(String[] args) throws WordleException {
+        WordleMetrics.global().setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt");
+
+        // Состояния после одной-двух случайных попыток - типичный момент запроса подсказки.
+        Random random = new Random(5);
+        List<GameState> states = new ArrayList<>();
+        while (states.size() < STATES) {
+            WordleGame game = new WordleGame(dictionary, silent, dictionary.getWord(random.nextInt(dictionary.size())));
+            int attempts = 1 + random.nextInt(2);
+            for (int i = 0; i < attempts && !game.isGameOver(); i++) {
+                String guess = dictionary.getWord(random.nextInt(dictionary.size()));
+                if (!game.getState().getUsedWords().contains(guess)) {
+                    game.makeGuess(guess);
+                }
+            }
+            states.add(game.getState());
+        }
+
+        for (int round = 0; round < 3; round++) {
+            dictionary.usePackedFilter(false);
+            double scalar = measure(dictionary, states);
+            dictionary.usePackedFilter(true);
+            double packed = measure(dictionary, states);
+            double sample = measureSample(dictionary, states);
+            System.out.printf("Слов: %d, посимвольно: %.1f мкс, упакованно: %.1f мкс на фильтрацию (x%.1f), "
+                    + "ленивый выбор подсказки: %.1f мкс%n", dictionary.size(), scalar, packed, scalar / packed, sample);
+        }
+    }
+
+    private static double measure(WordleDictionary dictionary, List<GameState> states) {
+        HashSet<String> noUsedWords = new HashSet<>();
+        long found = 0;
+        for (int repeat = 0; repeat < 20; repeat++) {
+            found += run(dictionary, states, noUsedWords);
+        }
+        long start = System.nanoTime();
+        for (int repeat = 0; repeat < 40; repeat++) {
+            found += run(dictionary, states, noUsedWords);
+        }
+        double result = (System.nanoTime() - start) / (40.0 * states.size() * 1000);
+        return found < 0 ? -1 : result;
+    }
+
+    // Случайная подсказка без построения списка кандидатов, как в getSuggestion.
+    private static double measureSample(WordleDictionary dictionary, List<GameState> states) {
+        HashSet<String> noUsedWords = new HashSet<>();
+        Random random = new Random(1);
+        long found = 0;
+        long start = 0;
+        for (int repeat = 0; repeat < 60; repeat++) {
+            if (repeat == 20) {
+                start = System.nanoTime();
+            }
+            for (GameState state : states) {
+                String suggestion = dictionary.candidates(state.getExcludedChars(), state.getRequiredChars(),
+                        state.getCorrectPositions(), state.getWrongPositions(), noUsedWords).sample(random);
+                found += suggestion == null ? 0 : 1;
+            }
+        }
+        double result = (System.nanoTime() - start) / (40.0 * states.size() * 1000);
+        return found < 0 ? -1 : result;
+    }
+
+    private static long run(WordleDictionary dictionary, List<GameState> states, HashSet<String> usedWords) {
+        long found = 0;
+        for (GameState state : states) {
+            found += dictionary.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                    state.getCorrectPositions(), state.getWrongPositions(), usedWords).size();
+        }
+        return found;
+    }
+}
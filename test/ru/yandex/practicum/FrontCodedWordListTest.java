@@ -0,0 +1,131 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrontCodedWordListTest {
+
+    private static PrintWriter log;
+    private static WordleDictionary plain;
+    private static List<String> sorted;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+        plain = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+        sorted = new ArrayList<>(new HashSet<>(plain.getWords()));
+        sorted.sort(String::compareTo);
+    }
+
+    @Test
+    void testRandomAccessIterationAndLookup() {
+        FrontCodedWordList list = FrontCodedWordList.build(sorted, Alphabet.RUSSIAN);
+
+        assertEquals(sorted.size(), list.size());
+        assertEquals(sorted, new ArrayList<>(list));
+        for (int id = sorted.size() - 1; id >= 0; id -= 7) {
+            assertEquals(sorted.get(id), list.get(id));
+        }
+        for (int id = 0; id < sorted.size(); id++) {
+            assertEquals(id, list.indexOf(sorted.get(id)));
+        }
+        assertTrue(list.sizeInBytes() < sorted.size() * 4L);
+    }
+
+    @Test
+    void testMissesAndForeignInput() {
+        FrontCodedWordList list = FrontCodedWordList.build(Arrays.asList("ежики", "ежиха", "слово"), Alphabet.RUSSIAN);
+
+        assertEquals(-1, list.indexOf("ёжики"));
+        assertEquals(-1, list.indexOf("ЕЖИКИ"));
+        assertEquals(-1, list.indexOf("ежик"));
+        assertEquals(-1, list.indexOf("ааааа"));
+        assertEquals(-1, list.indexOf("яяяяя"));
+        assertEquals(-1, list.indexOf("ежикя"));
+        assertEquals(-1, list.indexOf(null));
+        assertEquals(-1, list.indexOf(42));
+        assertTrue(list.contains("ежиха"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    void testOrdersByAlphabetNotByCharCode() {
+        // В украинском алфавите ґ стоит после г, хотя её код больше, чем у я.
+        List<String> words = new ArrayList<>(Arrays.asList("ґанок", "гарно", "язик", "яблук"));
+        words.removeIf(word -> word.length() != WordleDictionary.WORD_LENGTH);
+        words.sort((a, b) -> Integer.compare(FrontCodedWordList.orderKey(a, Alphabet.UKRAINIAN),
+                FrontCodedWordList.orderKey(b, Alphabet.UKRAINIAN)));
+        assertEquals(Arrays.asList("гарно", "ґанок", "яблук"), words);
+
+        FrontCodedWordList list = FrontCodedWordList.build(words, Alphabet.UKRAINIAN);
+        assertEquals(words, new ArrayList<>(list));
+        assertEquals(1, list.indexOf("ґанок"));
+    }
+
+    @Test
+    void testRejectsUnsortedOrDuplicateWords() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FrontCodedWordList.build(Arrays.asList("слово", "герой"), Alphabet.RUSSIAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> FrontCodedWordList.build(Arrays.asList("герой", "герой"), Alphabet.RUSSIAN));
+        assertThrows(IllegalArgumentException.class,
+                () -> FrontCodedWordList.build(Arrays.asList("ёжики"), Alphabet.RUSSIAN));
+    }
+
+    @Test
+    void testCompressedDictionaryMatchesPlain() throws WordleException {
+        WordleDictionary compressed = WordleDictionary.compressed(plain.getWords(), null, Alphabet.RUSSIAN, log);
+
+        assertTrue(compressed.isCompressed());
+        assertEquals(sorted.size(), compressed.size());
+        for (String word : Arrays.asList("герой", "ГЕРОЙ", "ёжики", "абвгд", "гер")) {
+            assertEquals(plain.contains(word), compressed.contains(word), word);
+        }
+        for (int id = 0; id < compressed.size(); id += 13) {
+            assertEquals(id, compressed.indexOf(compressed.getWord(id)));
+        }
+
+        WordleGame game = new WordleGame(compressed, log, "герой");
+        game.makeGuess("гонец");
+        GameState state = game.getState();
+        Set<String> expected = new HashSet<>(plain.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                state.getCorrectPositions(), state.getWrongPositions(), state.getUsedWords()));
+        Set<String> actual = new HashSet<>(compressed.filterByHints(state.getExcludedChars(),
+                state.getRequiredChars(), state.getCorrectPositions(), state.getWrongPositions(),
+                state.getUsedWords()));
+        assertEquals(expected, actual);
+        assertEquals("+++++", game.makeGuess("герой"));
+    }
+
+    @Test
+    void testCompressedDictionaryKeepsFirstWeight() {
+        WordleDictionary compressed = WordleDictionary.compressed(Arrays.asList("слово", "герой", "слово"),
+                new double[]{3, 1, 7}, Alphabet.RUSSIAN, log);
+
+        assertEquals(Arrays.asList("герой", "слово"), compressed.getWords());
+        assertEquals(1, compressed.getWeight(0), 1e-12);
+        assertEquals(3, compressed.getWeight(1), 1e-12);
+        assertThrows(IllegalArgumentException.class,
+                () -> WordleDictionary.compressed(Arrays.asList("ГЕРОЙ"), null, Alphabet.RUSSIAN, log));
+    }
+
+    @Test
+    void testLoaderBuildsCompressedDictionary() {
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(log);
+        loader.setCompressed(true);
+        WordleDictionary compressed = loader.loadDictionary("words_ru.txt");
+
+        assertTrue(compressed.isCompressed());
+        assertEquals(sorted, compressed.getWords());
+        assertFalse(plain.isCompressed());
+    }
+}
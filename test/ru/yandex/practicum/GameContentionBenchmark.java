@@ -0,0 +1,60 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GameContentionBenchmark {
+
+    private static final long DURATION_NANOS = 1_000_000_000L;
+
+    public static void main(String[] args) throws InterruptedException {
+        WordleMetrics.global().setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt");
+
+        run(dictionary, silent, 4);
+        for (int threads : new int[]{1, 2, 4, 8, 16, 32}) {
+            System.out.printf("Потоков: %2d, операций в секунду: %,.0f%n", threads, run(dictionary, silent, threads));
+        }
+    }
+
+    // Все потоки бьют в одну и ту же игру; завершённую игру один из потоков заменяет новой.
+    private static double run(WordleDictionary dictionary, PrintWriter log, int threads) throws InterruptedException {
+        AtomicReference<GameSession> current = new AtomicReference<>(newSession(dictionary, log));
+        LongAdder operations = new LongAdder();
+        long deadline = System.nanoTime() + DURATION_NANOS;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            Thread worker = new Thread(() -> {
+                int i = seed * 997;
+                while (System.nanoTime() < deadline) {
+                    GameSession session = current.get();
+                    try {
+                        session.makeGuess(dictionary.getWord(i++ % dictionary.size()));
+                    } catch (WordleException | RuntimeException e) {
+                        // отказы - тоже обработанные операции
+                    }
+                    if (session.getGame().isGameOver()) {
+                        current.compareAndSet(session, newSession(dictionary, log));
+                    }
+                    operations.increment();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.sum() * 1e9 / DURATION_NANOS;
+    }
+
+    private static GameSession newSession(WordleDictionary dictionary, PrintWriter log) {
+        return new GameSession("bench", new WordleGame(dictionary, log), new TokenBucket(1e9, 1_000_000));
+    }
+}
@@ -0,0 +1,222 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    // Подписчик, который запрашивает события по одному и копит их.
+    private static final class Recorder implements Flow.Subscriber<GameEvent> {
+        private final List<GameEvent> events = new ArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final long initialDemand;
+        private volatile Flow.Subscription subscription;
+
+        Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public synchronized void onNext(GameEvent event) {
+            events.add(event);
+            if (initialDemand == 1) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        synchronized List<GameEvent> events() {
+            return new ArrayList<>(events);
+        }
+
+        void awaitCompletion() throws InterruptedException {
+            assertTrue(completed.await(5, TimeUnit.SECONDS), "поток событий не завершился");
+        }
+    }
+
+    @Test
+    void testWinEventsInOrder() throws Exception {
+        WordleGame game = new WordleGame(dictionary, log, "герой");
+        Recorder recorder = new Recorder(1);
+        game.events().subscribe(recorder);
+
+        game.makeGuess("гонец");
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.makeGuess("абвгд"));
+        game.makeGuess("герой");
+        recorder.awaitCompletion();
+
+        List<GameEvent> events = recorder.events();
+        assertEquals(5, events.size());
+        assertEquals(GameEvent.Type.GUESS, events.get(0).getType());
+        assertEquals("гонец", events.get(0).getGuess());
+        assertEquals(GameEvent.Type.HINT, events.get(1).getType());
+        assertEquals(WordleDictionary.generateHint("гонец", "герой"), events.get(1).getHint());
+        assertEquals(1, events.get(1).getAttempt());
+        assertEquals(GameEvent.Type.GUESS, events.get(2).getType());
+        assertEquals(GameEvent.Type.HINT, events.get(3).getType());
+        assertEquals(GameEvent.Type.WIN, events.get(4).getType());
+        assertEquals("герой", events.get(4).getAnswer());
+        assertEquals(2, events.get(4).getAttempt());
+        assertNull(events.get(4).getSessionId());
+    }
+
+    @Test
+    void testLossEndsStream() throws Exception {
+        WordleGame game = new WordleGame(dictionary, log, "герой");
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        game.events().subscribe(recorder);
+
+        for (String word : Arrays.asList("гонец", "слово", "книга", "ручка", "автор", "город")) {
+            game.makeGuess(word);
+        }
+        recorder.awaitCompletion();
+
+        List<GameEvent> events = recorder.events();
+        assertEquals(2 * WordleGame.MAX_ATTEMPTS + 1, events.size());
+        GameEvent last = events.get(events.size() - 1);
+        assertEquals(GameEvent.Type.LOSS, last.getType());
+        assertEquals("город", last.getGuess());
+        assertEquals("герой", last.getAnswer());
+        assertEquals(0, last.getAttemptsLeft());
+    }
+
+    @Test
+    void testSubscriberControlsDemand() throws Exception {
+        WordleGame game = new WordleGame(dictionary, log, "герой");
+        Recorder recorder = new Recorder(2);
+        game.events().subscribe(recorder);
+
+        game.makeGuess("гонец");
+        game.makeGuess("слово");
+        Thread.sleep(100);
+        assertEquals(2, recorder.events().size());
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        game.makeGuess("герой");
+        recorder.awaitCompletion();
+        assertEquals(7, recorder.events().size());
+    }
+
+    @Test
+    void testConcurrentGuessesPublishBeforeGameEnd() throws Exception {
+        List<String> words = dictionary.getWords();
+        for (int round = 0; round < 200; round++) {
+            WordleGame game = new WordleGame(dictionary, log, words.get(round % words.size()));
+            Recorder recorder = new Recorder(Long.MAX_VALUE);
+            game.events().subscribe(recorder);
+
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 3 + round;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < words.size() && !game.isGameOver(); i++) {
+                            try {
+                                game.makeGuess(words.get((offset + i) % words.size()));
+                            } catch (WordleException e) {
+                                // слово уже использовано другим потоком
+                            } catch (RuntimeException e) {
+                                if (!"Игра уже завершена".equals(e.getMessage())) {
+                                    throw e;
+                                }
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(List.of(), failures);
+            recorder.awaitCompletion();
+
+            List<GameEvent> events = recorder.events();
+            int attempts = game.getState().getGuessHistory().size();
+            assertEquals(2 * attempts + 1, events.size());
+            GameEvent last = events.get(events.size() - 1);
+            assertEquals(game.getState().isWon() ? GameEvent.Type.WIN : GameEvent.Type.LOSS, last.getType());
+            assertEquals(attempts, last.getAttempt());
+        }
+    }
+
+    @Test
+    void testSubscribeAfterGameOverCompletes() throws Exception {
+        WordleGame game = new WordleGame(dictionary, log, "герой");
+        game.makeGuess("герой");
+
+        Recorder recorder = new Recorder(1);
+        game.events().subscribe(recorder);
+        recorder.awaitCompletion();
+        assertTrue(recorder.events().isEmpty());
+    }
+
+    @Test
+    void testSessionEventsCarrySessionId() throws Exception {
+        GameSession session = new GameSession("игрок-1", new WordleGame(dictionary, log, "герой"));
+        Recorder recorder = new Recorder(1);
+        session.events().subscribe(recorder);
+        assertSame(session.events(), session.events());
+
+        session.makeGuess("гонец");
+        session.makeGuess("герой");
+        recorder.awaitCompletion();
+
+        List<GameEvent> events = recorder.events();
+        assertEquals(5, events.size());
+        for (GameEvent event : events) {
+            assertEquals("игрок-1", event.getSessionId());
+        }
+        assertEquals(GameEvent.Type.WIN, events.get(4).getType());
+        assertTrue(events.get(4).toString().startsWith("игрок-1: WIN #2 герой"));
+    }
+}
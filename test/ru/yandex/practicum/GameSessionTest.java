@@ -0,0 +1,121 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    @Test
+    void testTokenBucketLimitsBurst() {
+        TokenBucket bucket = new TokenBucket(10, 3);
+        long now = System.nanoTime();
+
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now + 100_000_000L));
+        assertFalse(bucket.tryAcquire(now + 100_000_000L));
+    }
+
+    @Test
+    void testTokenBucketRefillsAfterIdle() {
+        TokenBucket bucket = new TokenBucket(1000, 2);
+        long now = System.nanoTime();
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+
+        long later = now + 1_000_000_000L;
+        assertTrue(bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later));
+        assertFalse(bucket.tryAcquire(later));
+    }
+
+    @Test
+    void testSessionRejectsWhenLimited() throws WordleException {
+        WordleGame game = new WordleGame(dictionary, log, "герой");
+        GameSession session = new GameSession("s1", game, new TokenBucket(0.001, 1));
+
+        assertEquals("---^-", session.makeGuess("книга"));
+        assertThrows(RateLimitExceededException.class, () -> session.makeGuess("слово"));
+        assertEquals(5, game.getAttemptsLeft());
+    }
+
+    @Test
+    void testConcurrentGuessesKeepStateConsistent() throws InterruptedException {
+        List<String> words = dictionary.getWords();
+        for (int round = 0; round < 50; round++) {
+            WordleGame game = new WordleGame(dictionary, new PrintWriter(new StringWriter()), "герой");
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger accepted = new AtomicInteger();
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < words.size(); i++) {
+                            String word = words.get((i + offset) % words.size());
+                            if (word.equals("герой")) {
+                                continue;
+                            }
+                            try {
+                                game.makeGuess(word);
+                                accepted.incrementAndGet();
+                            } catch (WordleException | RuntimeException e) {
+                                // дубликаты и завершённая игра ожидаемы
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            assertEquals(WordleGame.MAX_ATTEMPTS, accepted.get());
+            assertEquals(0, game.getAttemptsLeft());
+            assertTrue(game.isGameOver());
+            List<String> history = game.getGuessHistory();
+            assertEquals(WordleGame.MAX_ATTEMPTS, history.size());
+            assertEquals(history.size(), history.stream().distinct().count());
+            List<String> hints = game.getHintHistory();
+            for (int i = 0; i < history.size(); i++) {
+                assertEquals(WordleDictionary.generateHint(history.get(i), "герой"), hints.get(i));
+            }
+        }
+    }
+}
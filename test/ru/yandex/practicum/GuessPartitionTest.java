@@ -0,0 +1,148 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessPartitionTest {
+
+    private static PrintWriter log;
+    private static WordleDictionary russian;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(Writer.nullWriter());
+        russian = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка", "герой");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    @Test
+    void testPartitionMatchesHints() throws WordleException {
+        WordleGame game = new WordleGame(dictionary, log, "гроза");
+        GuessPartition partition = game.partition("ГОРОД", true);
+
+        assertEquals("город", partition.getGuess());
+        assertEquals(10, partition.getCandidateCount());
+        assertTrue(partition.isCandidate());
+        int total = 0;
+        Set<String> seen = new HashSet<>();
+        for (int code : partition.getCodes()) {
+            total += partition.getSize(code);
+            assertEquals(partition.getSize(code), partition.getMembers(code).size());
+            for (String word : partition.getMembers(code)) {
+                assertEquals(code, WordleDictionary.feedbackCode("город", word), word);
+                assertTrue(seen.add(word), word);
+            }
+        }
+        assertEquals(10, total);
+        int[] codes = partition.getCodes();
+        for (int i = 1; i < codes.length; i++) {
+            assertTrue(partition.getSize(codes[i - 1]) >= partition.getSize(codes[i]));
+        }
+        assertEquals(List.of("город"), partition.getMembers("+++++"));
+        assertEquals(partition.getLargestGroup(), partition.getSize(codes[0]));
+        assertTrue(partition.getEntropy() > 0 && partition.getEntropy() <= Math.log(10) / Math.log(2) + 1e-9);
+    }
+
+    @Test
+    void testGroupOfPlayedHintBecomesCandidates() throws WordleException {
+        WordleGame game = new WordleGame(russian, log, "герой");
+        for (String guess : Arrays.asList("канал", "сорок")) {
+            GuessPartition before = game.partition(guess, true);
+            String hint = game.makeGuess(guess);
+            List<String> group = before.getMembers(hint);
+
+            GuessPartition after = game.partition("герой", true);
+            assertEquals(group.size(), after.getCandidateCount());
+            Set<String> candidates = new HashSet<>();
+            for (int code : after.getCodes()) {
+                candidates.addAll(after.getMembers(code));
+            }
+            assertEquals(new HashSet<>(group), candidates);
+            assertTrue(candidates.contains("герой"));
+        }
+    }
+
+    @Test
+    void testRankingMatchesBruteForce() throws WordleException {
+        WordleGame game = new WordleGame(russian, log, "герой");
+        game.makeGuess("канал");
+        GuessRanking ranking = game.rankGuesses(5, Duration.ofMinutes(1), new ForkJoinPool(3));
+
+        assertTrue(ranking.isComplete());
+        assertEquals(new LinkedHashSet<>(russian.getWords()).size(), ranking.getTotal());
+        List<GuessPartition> all = new ArrayList<>();
+        for (String word : new LinkedHashSet<>(russian.getWords())) {
+            all.add(game.partition(word, false));
+        }
+        all.sort(Comparator.comparingDouble(GuessPartition::getExpectedRemaining)
+                .thenComparing(GuessPartition::isCandidate, Comparator.reverseOrder())
+                .thenComparing(GuessPartition::getGroupCount, Comparator.reverseOrder()));
+
+        assertEquals(5, ranking.getPartitions().size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(all.get(i).getExpectedRemaining(), ranking.getPartitions().get(i).getExpectedRemaining(),
+                    1e-9);
+            assertFalse(ranking.getPartitions().get(i).hasMembers());
+        }
+
+        GuessRanking sequential = game.rankGuesses(5, Duration.ofMinutes(1), new ForkJoinPool(1));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(sequential.getPartitions().get(i).getGuess(), ranking.getPartitions().get(i).getGuess());
+        }
+    }
+
+    @Test
+    void testHardModeRanksOnlyCandidates() throws WordleException {
+        WordleGame game = new WordleGame(russian, log, "герой");
+        game.setHardMode(true);
+        game.makeGuess("сорок");
+        GuessRanking ranking = game.rankGuesses(10, Duration.ofMinutes(1));
+
+        assertEquals(game.partition("герой", false).getCandidateCount(), ranking.getTotal());
+        for (GuessPartition partition : ranking.getPartitions()) {
+            assertTrue(partition.isCandidate());
+            game.getState().checkHardMode(partition.getGuess());
+        }
+    }
+
+    @Test
+    void testBudgetLimitsRanking() {
+        WordleGame game = new WordleGame(russian, log, "герой");
+        GuessRanking ranking = game.rankGuesses(3, Duration.ZERO);
+
+        assertFalse(ranking.isComplete());
+        assertEquals(0, ranking.getEvaluated());
+        assertTrue(ranking.getPartitions().isEmpty());
+    }
+
+    @Test
+    void testRejectsBadInput() {
+        WordleGame game = new WordleGame(dictionary, log, "гроза");
+        assertThrows(InvalidWordException.class, () -> game.partition("гро", false));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.partition("абвгд", false));
+        assertThrows(IllegalArgumentException.class, () -> game.rankGuesses(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalStateException.class, () -> game.partition("город", false).getMembers(0));
+    }
+}
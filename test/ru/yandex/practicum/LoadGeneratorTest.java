@@ -0,0 +1,90 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Приёмочный прогон: любые изменения конкурентности и кэшей должны проходить его без ошибок.
+class LoadGeneratorTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка", "норка", "корка", "горло", "порог");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    @Test
+    void testConcurrentPlayersWithoutErrors() throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(dictionary, log);
+        generator.setPlayers(32);
+        generator.setGamesPerPlayer(10);
+        generator.setRatios(0.3, 0.2);
+
+        LoadReport report = generator.run();
+
+        assertEquals(0, report.getErrors(), report.getFirstError());
+        assertEquals(320, report.getGames());
+        assertTrue(report.getWins() > 0);
+        assertTrue(report.getCount(LoadGenerator.Operation.GUESS) >= report.getGames());
+        assertTrue(report.getCount(LoadGenerator.Operation.INVALID) > 0);
+        assertTrue(report.getCount(LoadGenerator.Operation.SUGGESTION) > 0);
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getPercentile(LoadGenerator.Operation.GUESS, 50)
+                <= report.getPercentile(LoadGenerator.Operation.GUESS, 99));
+    }
+
+    @Test
+    void testSharedSuggestionCache() throws InterruptedException {
+        SuggestionCache cache = new SuggestionCache(256);
+        LoadGenerator generator = new LoadGenerator(dictionary, log);
+        generator.setPlayers(16);
+        generator.setGamesPerPlayer(10);
+        generator.setRatios(1.0, 0.0);
+        generator.setSuggestionCache(cache);
+
+        LoadReport report = generator.run();
+
+        assertEquals(0, report.getErrors(), report.getFirstError());
+        assertEquals(0, report.getCount(LoadGenerator.Operation.INVALID));
+        assertTrue(cache.getHitCount() > 0);
+    }
+
+    @Test
+    void testReportFormat() throws InterruptedException {
+        StringWriter text = new StringWriter();
+        LoadGenerator generator = new LoadGenerator(dictionary, new PrintWriter(text));
+        generator.setPlayers(2);
+        generator.setGamesPerPlayer(1);
+
+        String report = generator.run().format();
+
+        assertTrue(text.toString().contains(report));
+        assertTrue(report.contains("игроков: 2, партий: 2"));
+        assertTrue(report.contains("suggestion: "));
+    }
+
+    @Test
+    void testRejectsBadSettings() {
+        LoadGenerator generator = new LoadGenerator(dictionary, log);
+        assertThrows(IllegalArgumentException.class, () -> generator.setPlayers(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setGamesPerPlayer(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setRatios(0.6, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.setRatios(-0.1, 0.5));
+    }
+}
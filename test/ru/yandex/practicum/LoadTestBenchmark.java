@@ -0,0 +1,34 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+
+// Аргументы: [игроков] [партий на игрока] [доля подсказок] [доля неверного ввода] [cache]
+public class LoadTestBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        WordleMetrics.global().setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt");
+
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        double suggestions = args.length > 2 ? Double.parseDouble(args[2]) : 0.2;
+        double invalid = args.length > 3 ? Double.parseDouble(args[3]) : 0.1;
+        boolean cached = args.length > 4 && args[4].equals("cache");
+
+        PrintWriter out = new PrintWriter(System.out, true);
+        for (int round = 0; round < 3; round++) {
+            LoadGenerator generator = new LoadGenerator(dictionary, out);
+            generator.setPlayers(players);
+            generator.setGamesPerPlayer(games);
+            generator.setRatios(suggestions, invalid);
+            generator.setSeed(round + 1);
+            if (cached) {
+                generator.setSuggestionCache(new SuggestionCache(4096));
+            }
+            out.println("--- прогон " + (round + 1) + (cached ? " с общим кэшем подсказок" : ""));
+            generator.run();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ru.yandex.practicum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MetricsOverheadBenchmark {
+
+    private static final int OPERATIONS = 20_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        WordleMetrics enabled = new WordleMetrics(true);
+        WordleMetrics disabled = new WordleMetrics(false);
+
+        for (int i = 0; i < 3; i++) {
+            measure(enabled, 1);
+            measure(disabled, 1);
+        }
+
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        double clock = measureClock();
+        double single = measure(enabled, 1);
+        double contended = measure(enabled, threads);
+        System.out.printf("Выключены:                  %.1f нс/операция%n", measure(disabled, 1));
+        System.out.printf("Два вызова nanoTime:        %.1f нс%n", clock);
+        System.out.printf("Включены, 1 поток:          %.1f нс/операция (запись: %.1f нс)%n", single, single - clock);
+        System.out.printf("Включены, %d потоков:        %.1f нс/операция (по всем потокам)%n", threads, contended);
+        System.out.println();
+        System.out.print(enabled.dump());
+    }
+
+    private static double measureClock() {
+        long sink = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += System.nanoTime() - start;
+        }
+        double result = (double) (System.nanoTime() - begin) / OPERATIONS;
+        return sink == Long.MIN_VALUE ? 0 : result;
+    }
+
+    // Одна операция - таймер + запись латентности, как в makeGuess.
+    private static double measure(WordleMetrics metrics, int threads) throws InterruptedException {
+        int perThread = OPERATIONS / threads;
+        List<Thread> workers = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    long start = metrics.start();
+                    metrics.recordGuess(start, true);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return (double) (System.nanoTime() - begin) / ((long) perThread * threads);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiBoardWordleGameTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+    private MultiBoardWordleGame game;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+        game = new MultiBoardWordleGame(dictionary, log, Arrays.asList("герой", "слово", "книга", "ручка"));
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(4, game.getBoardCount());
+        assertEquals(9, game.getAttemptsLeft());
+        assertEquals(0, game.getSolvedCount());
+        assertEquals(10, game.getCandidateCount(0));
+    }
+
+    @Test
+    void testGuessScoredAgainstAllBoards() throws WordleException {
+        int[] codes = game.makeGuess("гонец");
+
+        assertEquals(4, codes.length);
+        List<String> answers = game.getAnswers();
+        for (int b = 0; b < codes.length; b++) {
+            assertEquals(WordleDictionary.generateHint("гонец", answers.get(b)),
+                    WordleDictionary.hintFromCode(codes[b]));
+        }
+        assertEquals(8, game.getAttemptsLeft());
+    }
+
+    @Test
+    void testCandidatesNarrowPerBoard() throws WordleException {
+        game.makeGuess("гонец");
+
+        for (int b = 0; b < game.getBoardCount(); b++) {
+            String answer = game.getAnswers().get(b);
+            String hint = WordleDictionary.generateHint("гонец", answer);
+            int expected = 0;
+            for (String word : dictionary.getWords()) {
+                if (WordleDictionary.generateHint("гонец", word).equals(hint)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, game.getCandidateCount(b));
+        }
+    }
+
+    @Test
+    void testSolvedBoardsAndWin() throws WordleException {
+        int[] codes = game.makeGuess("слово");
+        assertEquals(WordleDictionary.WINNING_CODE, codes[1]);
+        assertTrue(game.isSolved(1));
+
+        codes = game.makeGuess("герой");
+        assertEquals(MultiBoardWordleGame.SOLVED_BOARD, codes[1]);
+        game.makeGuess("книга");
+        game.makeGuess("ручка");
+
+        assertTrue(game.isGameOver());
+        assertTrue(game.isWon());
+        assertEquals(4, game.getSolvedCount());
+    }
+
+    @Test
+    void testSuggestionsSolveGame() throws WordleException {
+        while (!game.isGameOver()) {
+            String suggestion = game.getSuggestion();
+            assertNotNull(suggestion);
+            game.makeGuess(suggestion);
+        }
+        assertEquals(game.getGuessHistory().size(), new HashSet<>(game.getGuessHistory()).size());
+    }
+
+    @Test
+    void testRandomBoardsOnFullDictionary() throws WordleException {
+        WordleDictionary fullDict = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+        MultiBoardWordleGame big = new MultiBoardWordleGame(fullDict, log, MultiBoardWordleGame.MAX_BOARDS);
+
+        assertEquals(32, new HashSet<>(big.getAnswers()).size());
+        big.makeGuess(big.getSuggestion());
+        assertEquals(big.getMaxAttempts() - 1, big.getAttemptsLeft());
+    }
+
+    @Test
+    void testInvalidBoardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiBoardWordleGame(dictionary, log, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MultiBoardWordleGame(dictionary, log, 33));
+    }
+
+    @Test
+    void testAnswersMustBeDictionaryWords() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiBoardWordleGame(dictionary, log, Arrays.asList("гроза", "абвгд")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiBoardWordleGame(dictionary, log, Arrays.asList("гроза", "гро")));
+    }
+
+    @Test
+    void testValidation() throws WordleException {
+        assertThrows(InvalidWordException.class, () -> game.makeGuess("слон"));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.makeGuess("абвгд"));
+        game.makeGuess("гроза");
+        assertThrows(InvalidWordException.class, () -> game.makeGuess("гроза"));
+    }
+}
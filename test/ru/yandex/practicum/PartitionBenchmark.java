@@ -0,0 +1,64 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.time.Duration;
+
+// Разбиение кандидатов одним проходом против filterByHints на каждый из 243 кодов подсказки,
+// и время полного рейтинга попыток в начале партии и после одной попытки.
+public class PartitionBenchmark {
+
+    private static final String GUESS = "канал";
+
+    public static void main(String[] args) throws WordleException {
+        WordleMetrics.global().setEnabled(false);
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(silent).loadDictionary("words_ru.txt");
+        WordleGame game = new WordleGame(dictionary, silent, "герой");
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            int sink = 0;
+            for (int i = 0; i < 200; i++) {
+                sink += game.partition(GUESS, true).getGroupCount();
+            }
+            double partition = (System.nanoTime() - start) / 200.0 / 1000;
+
+            start = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                sink += filterPerCode(dictionary, game.getState());
+            }
+            double perCode = (System.nanoTime() - start) / 5.0 / 1000;
+            System.out.printf("разбиение: один проход %.0f мкс, filterByHints на каждый код %.0f мкс (x%.0f)%s%n",
+                    partition, perCode, perCode / partition, sink < 0 ? "!" : "");
+        }
+
+        for (int round = 0; round < 3; round++) {
+            GuessRanking opening = game.rankGuesses(5, Duration.ofMinutes(1));
+            GuessRanking limited = game.rankGuesses(5, Duration.ofMillis(50));
+            System.out.printf("рейтинг в начале партии: %d мс; за 50 мс оценено %d из %d, лучший %s%n",
+                    opening.getElapsedNanos() / 1_000_000, limited.getEvaluated(), limited.getTotal(),
+                    opening.getPartitions().get(0));
+        }
+
+        game.makeGuess(GUESS);
+        for (int round = 0; round < 3; round++) {
+            GuessRanking ranking = game.rankGuesses(5, Duration.ofMinutes(1));
+            System.out.printf("рейтинг после попытки: %d мс, лучший %s%n",
+                    ranking.getElapsedNanos() / 1_000_000, ranking.getPartitions().get(0));
+        }
+    }
+
+    // Как пришлось бы без разбиения: состояние и фильтрация для каждой возможной подсказки.
+    private static int filterPerCode(WordleDictionary dictionary, GameState state) {
+        int groups = 0;
+        for (int code = 0; code < WordleDictionary.FEEDBACK_CODES; code++) {
+            GameState next = state.withGuess(GUESS, WordleDictionary.hintFromCode(code));
+            if (!dictionary.filterByHints(next.getExcludedChars(), next.getRequiredChars(),
+                    next.getCorrectPositions(), next.getWrongPositions(), next.getUsedWords()).isEmpty()) {
+                groups++;
+            }
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,69 @@
+package ru.yandex.practicum;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Завершения партий в секунду: PlayerStatistics против той же статистики под одной блокировкой.
+// Игроки выбираются случайно из PLAYERS, так что потоки почти не пишут в одного игрока,
+// но общие счётчики задевает каждая партия.
+public class PlayerStatisticsBenchmark {
+
+    private static final int PLAYERS = 10_000;
+    private static final int RECORDS_PER_THREAD = 500_000;
+
+    private interface Recorder {
+        void record(String player, boolean won, int attempts);
+    }
+
+    public static void main(String[] args) throws Exception {
+        PrintWriter silent = new PrintWriter(Writer.nullWriter());
+        String[] names = new String[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            names[i] = "игрок-" + i;
+        }
+
+        for (int threads : new int[]{1, 4, 16}) {
+            for (int round = 0; round < 3; round++) {
+                PlayerStatistics statistics = new PlayerStatistics(silent);
+                PlayerStatistics locked = new PlayerStatistics(silent);
+                double lockFree = measure(threads, names, statistics::record);
+                double synchronizedRate = measure(threads, names, (player, won, attempts) -> {
+                    synchronized (locked) {
+                        locked.record(player, won, attempts);
+                    }
+                });
+                System.out.printf("потоков %2d: без блокировок %.1f млн/с, под блокировкой %.1f млн/с%n",
+                        threads, lockFree / 1e6, synchronizedRate / 1e6);
+            }
+        }
+    }
+
+    private static double measure(int threads, String[] names, Recorder recorder) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                        int attempts = 1 + random.nextInt(WordleGame.MAX_ATTEMPTS);
+                        recorder.record(names[random.nextInt(names.length)], random.nextInt(10) != 0, attempts);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return (double) threads * RECORDS_PER_THREAD * 1e9 / (System.nanoTime() - start);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
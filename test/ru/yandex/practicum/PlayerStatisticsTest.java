@@ -0,0 +1,247 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStatisticsTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+    private PlayerStatistics statistics;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+        statistics = new PlayerStatistics(log);
+    }
+
+    @Test
+    void testStreaksAndDistribution() {
+        statistics.record("аня", true, 3);
+        statistics.record("аня", true, 4);
+        statistics.record("аня", false, WordleGame.MAX_ATTEMPTS);
+        statistics.record("аня", true, 3);
+        statistics.record("боря", true, 1);
+
+        PlayerStats anna = statistics.get("аня");
+        assertEquals(4, anna.getGames());
+        assertEquals(3, anna.getWins());
+        assertEquals(1, anna.getLosses());
+        assertEquals(0.75, anna.getWinRate(), 1e-12);
+        assertEquals(1, anna.getCurrentStreak());
+        assertEquals(2, anna.getMaxStreak());
+        assertEquals(2, anna.getWinsInAttempts(3));
+        assertEquals(1, anna.getWinsInAttempts(4));
+        assertEquals(10.0 / 3, anna.getAverageAttempts(), 1e-12);
+
+        assertEquals(2, statistics.getPlayerCount());
+        assertEquals(5, statistics.getTotalGames());
+        assertEquals(4, statistics.getTotalWins());
+        assertEquals(1, statistics.getTotalLosses());
+        assertArrayEquals(new long[]{1, 0, 2, 1, 0, 0}, statistics.getAttemptDistribution());
+
+        PlayerStats unknown = statistics.get("вася");
+        assertEquals(0, unknown.getGames());
+        assertEquals(0, unknown.getWinRate(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> statistics.record("аня", true, 0));
+        assertThrows(IllegalArgumentException.class, () -> anna.getWinsInAttempts(WordleGame.MAX_ATTEMPTS + 1));
+    }
+
+    @Test
+    void testGameReportsCompletion() throws WordleException {
+        WordleGame won = new WordleGame(dictionary, log, "герой");
+        won.setStatistics(statistics, "аня");
+        won.makeGuess("гонец");
+        assertEquals(0, statistics.getTotalGames());
+        won.makeGuess("герой");
+
+        WordleGame lost = new WordleGame(dictionary, log, "герой");
+        lost.setStatistics(statistics, "аня");
+        for (String word : Arrays.asList("гонец", "слово", "книга", "ручка", "автор", "город")) {
+            lost.makeGuess(word);
+        }
+
+        PlayerStats anna = statistics.get("аня");
+        assertEquals(2, anna.getGames());
+        assertEquals(1, anna.getWinsInAttempts(2));
+        assertEquals(0, anna.getCurrentStreak());
+        assertEquals(1, anna.getMaxStreak());
+
+        WordleGame anonymous = new WordleGame(dictionary, log, "герой");
+        assertThrows(NullPointerException.class, () -> anonymous.setStatistics(statistics, null));
+        anonymous.makeGuess("герой");
+        assertEquals(2, statistics.getTotalGames());
+
+        assertThrows(IllegalStateException.class,
+                () -> statistics.record("боря", new WordleGame(dictionary, log, "герой")));
+        statistics.record("боря", won);
+        assertEquals(1, statistics.get("боря").getWinsInAttempts(2));
+    }
+
+    @Test
+    void testConcurrentGuessesCountGameOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 200; round++) {
+                WordleGame game = new WordleGame(dictionary, log, "герой");
+                game.setStatistics(statistics, "аня");
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (String word : Arrays.asList("герой", "гонец", "слово", "книга")) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            game.makeGuess(word);
+                        } catch (RuntimeException | WordleException ignored) {
+                            // Попытка после победы отклоняется.
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(200, statistics.get("аня").getGames());
+        assertEquals(200, statistics.getTotalWins());
+    }
+
+    @Test
+    void testConcurrentRecordsAreNotLost() throws Exception {
+        int threads = 8;
+        int games = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < games; i++) {
+                        statistics.record("игрок-" + (i % 4), (i + thread) % 3 != 0, 1 + i % WordleGame.MAX_ATTEMPTS);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = 0;
+        long wins = 0;
+        for (int p = 0; p < 4; p++) {
+            PlayerStats stats = statistics.get("игрок-" + p);
+            total += stats.getGames();
+            wins += stats.getWins();
+            assertEquals(stats.getWins(), Arrays.stream(stats.getAttemptDistribution()).sum());
+        }
+        assertEquals((long) threads * games, total);
+        assertEquals((long) threads * games, statistics.getTotalGames());
+        assertEquals(wins, statistics.getTotalWins());
+    }
+
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        for (int i = 0; i < 1000; i++) {
+            statistics.record("игрок-" + (i % 100), i % 5 != 0, 1 + i % WordleGame.MAX_ATTEMPTS);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statistics.write(out);
+        assertTrue(out.size() < 100 * 40, "снимок слишком большой: " + out.size());
+
+        PlayerStatistics loaded = PlayerStatistics.read(new ByteArrayInputStream(out.toByteArray()), log);
+        assertEquals(100, loaded.getPlayerCount());
+        assertEquals(statistics.getTotalGames(), loaded.getTotalGames());
+        assertArrayEquals(statistics.getAttemptDistribution(), loaded.getAttemptDistribution());
+        for (int p = 0; p < 100; p++) {
+            assertEquals(statistics.get("игрок-" + p).toString(), loaded.get("игрок-" + p).toString());
+        }
+
+        loaded.record("игрок-0", true, 2);
+        assertEquals(statistics.get("игрок-0").getGames() + 1, loaded.get("игрок-0").getGames());
+    }
+
+    @Test
+    void testRejectsDamagedSnapshot() throws IOException {
+        statistics.record("аня", true, 3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statistics.write(out);
+        byte[] bytes = out.toByteArray();
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        assertThrows(IOException.class, () -> PlayerStatistics.read(new ByteArrayInputStream(truncated), log));
+
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+        assertThrows(IOException.class, () -> PlayerStatistics.read(new ByteArrayInputStream(trailing), log));
+
+        byte[] foreign = bytes.clone();
+        foreign[0] ^= 1;
+        assertThrows(IOException.class, () -> PlayerStatistics.read(new ByteArrayInputStream(foreign), log));
+    }
+
+    @Test
+    void testPeriodicSnapshots() throws Exception {
+        Path directory = Files.createTempDirectory("wordle-stats");
+        Path file = directory.resolve("stats.bin");
+        statistics.startSnapshots(file, Duration.ofMillis(20));
+        try {
+            assertThrows(IllegalStateException.class, () -> statistics.startSnapshots(file, Duration.ofMillis(20)));
+            statistics.record("аня", true, 3);
+            for (int i = 0; i < 250 && !Files.exists(file); i++) {
+                Thread.sleep(20);
+            }
+            assertTrue(Files.exists(file), "снимок не записан");
+            statistics.record("аня", false, WordleGame.MAX_ATTEMPTS);
+        } finally {
+            statistics.stopSnapshots();
+        }
+
+        PlayerStatistics loaded = PlayerStatistics.load(file, log);
+        assertEquals(2, loaded.get("аня").getGames());
+        assertEquals(1, loaded.get("аня").getMaxStreak());
+        assertEquals(0, PlayerStatistics.loadOrCreate(directory.resolve("missing.bin"), log).getTotalGames());
+    }
+
+    @Test
+    void testLoadGeneratorFeedsStatistics() throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(dictionary, log);
+        generator.setPlayers(8);
+        generator.setGamesPerPlayer(5);
+        generator.setStatistics(statistics);
+        LoadReport report = generator.run();
+
+        assertEquals(8, statistics.getPlayerCount());
+        assertEquals(report.getGames() - report.getErrors(), statistics.getTotalGames());
+        assertEquals(report.getWins(), statistics.getTotalWins());
+    }
+}
@@ -0,0 +1,108 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+// Время до первой подсказки в отдельном процессе: от запуска JVM до строки с подсказкой
+// на первую попытку. Архив CDS работает только с jar, поэтому классы сначала собираются в jar.
+public class StartupBenchmark {
+
+    private static final int RUNS = 5;
+    private static final String DICTIONARY_FILE = "words_ru.txt";
+
+    public static void main(String[] args) throws Exception {
+        Path work = Files.createTempDirectory("wordle-startup");
+        Files.copy(Paths.get(DICTIONARY_FILE), work.resolve(DICTIONARY_FILE));
+        Path jar = work.resolve("wordle.jar");
+        buildJar(jar);
+        String guess = new WordleDictionaryLoader(new PrintWriter(Writer.nullWriter()))
+                .loadDictionary(DICTIONARY_FILE).getWord(0);
+
+        Path archive = work.resolve("wordle.jsa");
+        run(work, List.of("-XX:ArchiveClassesAtExit=" + archive, "-cp", jar.toString(), Wordle.class.getName(),
+                "--snapshot", "words_ru.snap", "--train"), null);
+
+        String cds = "-XX:SharedArchiveFile=" + archive;
+        measure(work, jar, guess, "текстовый словарь", List.of(), List.of());
+        measure(work, jar, guess, "снимок словаря", List.of(), List.of("--snapshot", "words_ru.snap"));
+        measure(work, jar, guess, "CDS", List.of(cds), List.of());
+        measure(work, jar, guess, "CDS + снимок", List.of(cds), List.of("--snapshot", "words_ru.snap"));
+        measure(work, jar, guess, "CDS + снимок + прогрев", List.of(cds),
+                List.of("--snapshot", "words_ru.snap", "--warmup", String.valueOf(WordleWarmup.DEFAULT_GAMES)));
+    }
+
+    private static void measure(Path work, Path jar, String guess, String name,
+                                List<String> jvmOptions, List<String> options) throws Exception {
+        List<String> command = new ArrayList<>(jvmOptions);
+        command.addAll(List.of("-Dstdout.encoding=UTF-8", "-cp", jar.toString(), Wordle.class.getName()));
+        command.addAll(options);
+
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            times[i] = run(work, command, guess);
+        }
+        Arrays.sort(times);
+        System.out.printf("%-24s медиана %4d мс, минимум %4d мс%n", name,
+                times[RUNS / 2] / 1_000_000, times[0] / 1_000_000);
+    }
+
+    // Время до строки подсказки; без попытки - до завершения процесса.
+    private static long run(Path work, List<String> arguments, String guess) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        ProcessBuilder builder = new ProcessBuilder(command).directory(work.toFile()).redirectErrorStream(true);
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            if (guess != null) {
+                OutputStream in = process.getOutputStream();
+                in.write((guess + "\n").getBytes(StandardCharsets.UTF_8));
+                in.flush();
+            }
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (guess != null && line.matches("[-+^]{5}")) {
+                    long elapsed = System.nanoTime() - start;
+                    process.destroy();
+                    process.waitFor();
+                    return elapsed;
+                }
+            }
+        }
+        int code = process.waitFor();
+        if (guess != null || code != 0) {
+            throw new IllegalStateException("Процесс завершился без подсказки, код " + code + ": " + command);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void buildJar(Path jar) throws IOException, URISyntaxException {
+        Path classes = Paths.get(Wordle.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+    }
+}
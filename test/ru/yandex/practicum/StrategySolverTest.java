@@ -0,0 +1,147 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategySolverTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка", "норка", "корка", "горло", "порог");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    @Test
+    void testEveryAnswerSolvedWithinWorstCase() {
+        StrategyTree tree = new StrategySolver(dictionary, log).solve();
+        assertNotNull(tree);
+        assertTrue(tree.getWorstCase() <= WordleGame.MAX_ATTEMPTS);
+
+        int deepest = 0;
+        for (int id = 0; id < dictionary.size(); id++) {
+            deepest = Math.max(deepest, play(tree, dictionary.getWord(id)));
+        }
+        assertEquals(tree.getWorstCase(), deepest);
+    }
+
+    @Test
+    void testWorstCaseIsMinimal() {
+        StrategySolver solver = new StrategySolver(dictionary, log);
+        StrategyTree tree = solver.solve();
+        assertNull(new StrategySolver(dictionary, log).solve(tree.getWorstCase() - 1));
+    }
+
+    @Test
+    void testUnsolvableBudget() {
+        assertNull(new StrategySolver(dictionary, log).solve(1));
+    }
+
+    @Test
+    void testRejectsTooLargeDictionary() {
+        String letters = "абвгдежзийклмнопрстуфхцчшщъыьэюя";
+        List<String> words = new ArrayList<>();
+        for (int i = 0; words.size() < 46_341; i++) {
+            char[] word = new char[WordleDictionary.WORD_LENGTH];
+            for (int j = 0, n = i; j < word.length; j++, n /= letters.length()) {
+                word[j] = letters.charAt(n % letters.length());
+            }
+            words.add(new String(word));
+        }
+        WordleDictionary large = new WordleDictionary(words, new PrintWriter(Writer.nullWriter()));
+
+        assertThrows(IllegalArgumentException.class, () -> new StrategySolver(large, log));
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        StrategyTree tree = new StrategySolver(dictionary, log).solve();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tree.write(out);
+
+        StrategyTree loaded = StrategyTree.read(new ByteArrayInputStream(out.toByteArray()), dictionary);
+        assertEquals(tree.getOpening(), loaded.getOpening());
+        assertEquals(tree.getWorstCase(), loaded.getWorstCase());
+        assertEquals(tree.getNodeCount(), loaded.getNodeCount());
+        for (int id = 0; id < dictionary.size(); id++) {
+            assertEquals(play(tree, dictionary.getWord(id)), play(loaded, dictionary.getWord(id)));
+        }
+    }
+
+    @Test
+    void testRejectsOtherDictionary() throws IOException {
+        StrategyTree tree = new StrategySolver(dictionary, log).solve();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tree.write(out);
+
+        WordleDictionary other = new WordleDictionary(Arrays.asList("герой", "гонец"), log);
+        assertThrows(IOException.class,
+                () -> StrategyTree.read(new ByteArrayInputStream(out.toByteArray()), other));
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        assertThrows(IOException.class,
+                () -> StrategyTree.read(new ByteArrayInputStream(truncated), dictionary));
+    }
+
+    @Test
+    void testGameFollowsTree() throws WordleException {
+        StrategyTree tree = new StrategySolver(dictionary, log).solve();
+        WordleGame game = new WordleGame(dictionary, log, "корка");
+        game.setStrategyTree(tree);
+
+        while (!game.isGameOver()) {
+            String suggestion = game.getSuggestion();
+            assertEquals(tree.suggest(game.getState().getGuessHistory(), game.getState().getHintHistory()),
+                    suggestion);
+            game.makeGuess(suggestion);
+        }
+        assertTrue(game.isWon());
+    }
+
+    @Test
+    void testOffTreeFallsBack() throws WordleException {
+        StrategyTree tree = new StrategySolver(dictionary, log).solve();
+        String offTree = tree.getOpening().equals("слово") ? "книга" : "слово";
+        assertNull(tree.suggest(List.of(offTree), List.of("-----")));
+
+        WordleGame game = new WordleGame(dictionary, log, "корка");
+        game.setStrategyTree(tree);
+        game.makeGuess(offTree);
+        assertNotNull(game.getSuggestion());
+    }
+
+    private static int play(StrategyTree tree, String answer) {
+        List<String> guesses = new ArrayList<>();
+        List<String> hints = new ArrayList<>();
+        while (guesses.size() < 10) {
+            String guess = tree.suggest(guesses, hints);
+            assertNotNull(guess);
+            String hint = WordleDictionary.generateHint(guess, answer);
+            guesses.add(guess);
+            hints.add(hint);
+            if (WordleDictionary.isWinningHint(hint)) {
+                return guesses.size();
+            }
+        }
+        return fail("Стратегия не угадала слово " + answer);
+    }
+}
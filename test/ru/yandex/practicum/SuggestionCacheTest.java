@@ -0,0 +1,148 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionCacheTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    @Test
+    void testCachedCandidatesMatchFilter() throws WordleException {
+        WordleGame game = new WordleGame(dictionary, log, "горка");
+        game.makeGuess("герой");
+        GameState state = game.getState();
+
+        SuggestionCache.Entry entry = dictionary.candidateEntry(ConstraintKey.of(Alphabet.RUSSIAN, state));
+        List<String> expected = dictionary.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                state.getCorrectPositions(), state.getWrongPositions(), new HashSet<>());
+
+        List<String> actual = new ArrayList<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            if (entry.contains(id)) {
+                actual.add(dictionary.getWord(id));
+            }
+        }
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        assertEquals(expected.size(), entry.getCount());
+        assertTrue(expected.contains(entry.getSuggestion()));
+    }
+
+    @Test
+    void testSameStateHitsCache() throws WordleException {
+        SuggestionCache cache = new SuggestionCache(64);
+        for (int i = 0; i < 2; i++) {
+            WordleGame game = new WordleGame(dictionary, log, "горка");
+            game.setSuggestionCache(cache);
+            game.makeGuess("слово");
+            assertNotNull(game.getSuggestion());
+        }
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testUsedSuggestionIsNotRepeated() throws WordleException {
+        SuggestionCache cache = new SuggestionCache(64);
+        WordleGame game = new WordleGame(dictionary, log, "горка");
+        game.setSuggestionCache(cache);
+        game.makeGuess("книга");
+
+        String suggestion = game.getSuggestion();
+        assertNotNull(suggestion);
+        if (!suggestion.equals("горка")) {
+            game.makeGuess(suggestion);
+            String next = game.getSuggestion();
+            assertNotEquals(suggestion, next);
+        }
+    }
+
+    @Test
+    void testEvictionBoundsSize() {
+        SuggestionCache cache = new SuggestionCache(16);
+        Set<Character> none = new HashSet<>();
+        @SuppressWarnings("unchecked")
+        Set<Character>[] wrong = new Set[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < wrong.length; i++) {
+            wrong[i] = new HashSet<>();
+        }
+
+        for (char c = 'а'; c <= 'я'; c++) {
+            for (int position = 0; position < WordleDictionary.WORD_LENGTH; position++) {
+                char[] correct = new char[WordleDictionary.WORD_LENGTH];
+                correct[position] = c;
+                cache.get(ConstraintKey.of(Alphabet.RUSSIAN, none, none, correct, wrong),
+                        dictionary::candidateEntry);
+            }
+        }
+
+        assertTrue(cache.size() <= 16);
+        assertEquals(32 * WordleDictionary.WORD_LENGTH - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    void testKeyIgnoresExcludedRequiredLetters() {
+        @SuppressWarnings("unchecked")
+        Set<Character>[] wrong = new Set[WordleDictionary.WORD_LENGTH];
+        for (int i = 0; i < wrong.length; i++) {
+            wrong[i] = new HashSet<>();
+        }
+        char[] correct = new char[WordleDictionary.WORD_LENGTH];
+
+        ConstraintKey plain = ConstraintKey.of(Alphabet.RUSSIAN, new HashSet<>(List.of('б')),
+                new HashSet<>(List.of('о')), correct, wrong);
+        ConstraintKey overlapping = ConstraintKey.of(Alphabet.RUSSIAN, new HashSet<>(List.of('б', 'о')),
+                new HashSet<>(List.of('о')), correct, wrong);
+
+        assertEquals(plain, overlapping);
+        assertEquals(plain.hashCode(), overlapping.hashCode());
+    }
+
+    @Test
+    void testCacheIsBoundToOneDictionary() throws WordleException {
+        SuggestionCache cache = new SuggestionCache(64);
+        WordleGame game = new WordleGame(dictionary, log, "горка");
+        game.setSuggestionCache(cache);
+        game.makeGuess("слово");
+        assertNotNull(game.getSuggestion());
+
+        WordleDictionary other = new WordleDictionary(Arrays.asList("пирог", "сирот", "шорох"), log);
+        WordleGame foreign = new WordleGame(other, log, "пирог");
+        assertThrows(IllegalArgumentException.class, () -> foreign.setSuggestionCache(cache));
+        foreign.makeGuess("шорох");
+        assertTrue(other.contains(foreign.getSuggestion()));
+
+        new WordleGame(dictionary, log, "гроза").setSuggestionCache(cache);
+    }
+
+    @Test
+    void testRejectsTooSmallCache() {
+        assertThrows(IllegalArgumentException.class, () -> new SuggestionCache(4));
+    }
+}
@@ -0,0 +1,133 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentGraderTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    private Map<String, PlayerScore> grade(TournamentGrader grader, String content) throws IOException {
+        return grader.grade(new BufferedReader(new StringReader(content)));
+    }
+
+    @Test
+    void testScoresPlayers() throws IOException {
+        TournamentGrader grader = new TournamentGrader(dictionary, log, 2);
+        Map<String, PlayerScore> scores = grade(grader,
+                "анна 0 гонец герой\n"
+                        + "анна 2 слово\n"
+                        + "борис 3 герой гонец слово ручка автор город\n");
+
+        PlayerScore anna = scores.get("анна");
+        assertEquals(2, anna.getGames());
+        assertEquals(2, anna.getWins());
+        assertEquals(5 + 6, anna.getPoints());
+        assertEquals(1.5, anna.getAverageAttempts());
+
+        PlayerScore boris = scores.get("борис");
+        assertEquals(1, boris.getGames());
+        assertEquals(0, boris.getWins());
+        assertEquals(0, boris.getPoints());
+        assertEquals(0, grader.getMalformedLines());
+    }
+
+    @Test
+    void testInvalidLines() throws IOException {
+        TournamentGrader grader = new TournamentGrader(dictionary, log, 1);
+        Map<String, PlayerScore> scores = grade(grader,
+                "вера 99 герой\n"
+                        + "вера x герой\n"
+                        + "вера 0 абвгд\n"
+                        + "вера 0 гонец гонец\n"
+                        + "вера 0 герой гонец\n"
+                        + "вера 0 гонец слово книга ручка автор город гроза\n"
+                        + "\n");
+
+        assertEquals(6, scores.get("вера").getInvalidGames());
+        assertEquals(0, scores.get("вера").getPoints());
+        assertEquals(6, grader.getMalformedLines());
+    }
+
+    @Test
+    void testRepeatsAreComparedAfterNormalization() throws IOException {
+        WordleDictionary withYo = new WordleDictionary(Arrays.asList("герой", "терка", "слово"), log);
+        TournamentGrader grader = new TournamentGrader(withYo, log, 1);
+        Map<String, PlayerScore> scores = grade(grader,
+                "галя 0 тёрка терка герой\n"
+                        + "галя 0 СЛОВО слово герой\n"
+                        + "галя 0 тёрка слово герой\n");
+
+        assertEquals(2, scores.get("галя").getInvalidGames());
+        assertEquals(1, scores.get("галя").getWins());
+        assertEquals(2, grader.getMalformedLines());
+    }
+
+    @Test
+    void testParallelMatchesSequential() throws IOException {
+        StringBuilder content = new StringBuilder();
+        Random random = new Random(5);
+        List<String> words = dictionary.getWords();
+        for (int i = 0; i < 20_000; i++) {
+            content.append("игрок").append(i % 37).append(' ').append(random.nextInt(words.size()));
+            List<String> shuffled = new ArrayList<>(words);
+            Collections.shuffle(shuffled, random);
+            for (int g = 0; g < 1 + random.nextInt(WordleGame.MAX_ATTEMPTS); g++) {
+                content.append(' ').append(shuffled.get(g));
+            }
+            content.append('\n');
+        }
+
+        Map<String, PlayerScore> sequential = grade(new TournamentGrader(dictionary, log, 1), content.toString());
+        Map<String, PlayerScore> parallel = grade(new TournamentGrader(dictionary, log, 4), content.toString());
+
+        assertEquals(37, parallel.size());
+        for (String player : sequential.keySet()) {
+            assertEquals(sequential.get(player).getPoints(), parallel.get(player).getPoints());
+            assertEquals(sequential.get(player).getWins(), parallel.get(player).getWins());
+            assertEquals(sequential.get(player).getInvalidGames(), parallel.get(player).getInvalidGames());
+        }
+    }
+
+    @Test
+    void testGradeFile() throws IOException {
+        Path file = Files.createTempFile("tournament", ".txt");
+        Files.write(file, Arrays.asList("денис 4 ручка"), StandardCharsets.UTF_8);
+        try {
+            Map<String, PlayerScore> scores = new TournamentGrader(dictionary, log).grade(file);
+            assertEquals(WordleGame.MAX_ATTEMPTS, scores.get("денис").getPoints());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordBloomFilterTest {
+
+    private static PrintWriter log;
+    private static WordleDictionary fullDict;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+        fullDict = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+    }
+
+    @Test
+    void testNoFalseNegatives() {
+        WordBloomFilter filter = new WordBloomFilter(fullDict.getWords(), 0.01);
+        for (String word : fullDict.getWords()) {
+            assertTrue(filter.mightContain(word));
+            assertTrue(filter.mightContain(word.toUpperCase()));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateIsNearConfigured() {
+        WordBloomFilter filter = new WordBloomFilter(fullDict.getWords(), 0.01);
+        Random random = new Random(11);
+        int falsePositives = 0;
+        int nonWords = 0;
+        char[] letters = new char[WordleDictionary.WORD_LENGTH];
+        while (nonWords < 50_000) {
+            for (int j = 0; j < letters.length; j++) {
+                letters[j] = (char) ('а' + random.nextInt(WordleDictionary.ALPHABET_SIZE));
+            }
+            String candidate = new String(letters);
+            if (!fullDict.contains(candidate)) {
+                nonWords++;
+                if (filter.mightContain(candidate)) {
+                    falsePositives++;
+                }
+            }
+        }
+        double rate = (double) falsePositives / nonWords;
+        assertTrue(rate < 0.02, "FPR = " + rate);
+    }
+
+    @Test
+    void testRejectsMalformedInput() {
+        WordBloomFilter filter = new WordBloomFilter(Arrays.asList("герой"), 0.01);
+        assertFalse(filter.mightContain(null));
+        assertFalse(filter.mightContain("гер"));
+        assertFalse(filter.mightContain("hello"));
+        assertTrue(filter.mightContain("ГеРоЙ"));
+    }
+
+    @Test
+    void testDictionaryContainsWithFilter() {
+        WordleDictionary dictionary = new WordleDictionary(Arrays.asList("герой", "елочк", "слово"), log);
+        assertTrue(dictionary.enableBloomFilter(0.001));
+
+        assertTrue(dictionary.contains("герой"));
+        assertTrue(dictionary.contains("ГЕРОЙ"));
+        assertTrue(dictionary.contains("ёлочк"));
+        assertFalse(dictionary.contains("книга"));
+        assertFalse(dictionary.contains("hello"));
+        assertFalse(dictionary.contains(null));
+
+        dictionary.disableBloomFilter();
+        assertTrue(dictionary.contains("слово"));
+    }
+
+    @Test
+    void testFilterNotEnabledForUnpackableWords() {
+        WordleDictionary dictionary = new WordleDictionary(Arrays.asList("герой", "hello"), log);
+        assertFalse(dictionary.enableBloomFilter(0.01));
+        assertTrue(dictionary.contains("hello"));
+    }
+
+    @Test
+    void testInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new WordBloomFilter(Arrays.asList("герой"), 0));
+        assertThrows(IllegalArgumentException.class, () -> new WordBloomFilter(Arrays.asList("герой"), 1));
+    }
+}
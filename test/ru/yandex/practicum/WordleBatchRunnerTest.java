@@ -0,0 +1,101 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleBatchRunnerTest {
+
+    private static PrintWriter log;
+    private WordleDictionary dictionary;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        dictionary = new WordleDictionary(words, log);
+    }
+
+    private String run(WordleBatchRunner runner, String script) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        runner.run(Channels.newChannel(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8))), output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testRunsSeveralGames() throws IOException {
+        WordleBatchRunner runner = new WordleBatchRunner(dictionary, log);
+        String output = run(runner, "# два матча\r\n= герой\nгонец\nГЕРОЙ\nкнига\n\n= слово\nслово\n");
+
+        assertEquals(2, runner.getGamesPlayed());
+        assertEquals(3, runner.getGuessesProcessed());
+        assertEquals(1, runner.getLinesSkipped());
+        assertTrue(output.contains("гонец\n+^-^-\n"));
+        assertTrue(output.contains("Поздравляем! Вы угадали слово за 2 попыток!"));
+        assertTrue(output.contains("Поздравляем! Вы угадали слово за 1 попыток!"));
+    }
+
+    @Test
+    void testErrorsAndSuggestions() throws IOException {
+        WordleBatchRunner runner = new WordleBatchRunner(dictionary, log);
+        String output = run(runner, "= герой\nслон\nабвгд\n?");
+
+        assertTrue(output.contains("Ошибка: Слово должно состоять из 5 русских букв"));
+        assertTrue(output.contains("Ошибка: Слово 'абвгд' не найдено в словаре"));
+        assertTrue(output.contains("Подсказка: "));
+        assertTrue(output.contains("Игра не завершена") || output.contains("=== ИГРА ОКОНЧЕНА ==="));
+    }
+
+    @Test
+    void testBadAnswerSkipsItsGame() throws IOException {
+        WordleBatchRunner runner = new WordleBatchRunner(dictionary, log);
+        String output = run(runner, "= гро\nгонец\n= абвгд\nгонец\n?\n= слово\nслово\n");
+
+        assertTrue(output.contains("Ошибка: загаданное слово не подходит: Слово должно состоять из 5 русских букв"));
+        assertTrue(output.contains("Ошибка: загаданное слово не подходит: Слово 'абвгд' не найдено в словаре"));
+        assertTrue(output.contains("Поздравляем! Вы угадали слово за 1 попыток!"));
+        assertEquals(1, runner.getGamesPlayed());
+        assertEquals(1, runner.getGuessesProcessed());
+        assertEquals(5, runner.getLinesSkipped());
+    }
+
+    @Test
+    void testImplicitRandomGame() throws IOException {
+        WordleBatchRunner runner = new WordleBatchRunner(dictionary, log);
+        run(runner, "гонец\n");
+
+        assertEquals(1, runner.getGamesPlayed());
+        assertEquals(1, runner.getGuessesProcessed());
+    }
+
+    @Test
+    void testLongInputAcrossBuffers() throws IOException {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            script.append("= герой\nкнига\nгерой\n");
+        }
+        WordleBatchRunner runner = new WordleBatchRunner(dictionary, new PrintWriter(new StringWriter()));
+        String output = run(runner, script.toString());
+
+        assertEquals(20_000, runner.getGamesPlayed());
+        assertEquals(40_000, runner.getGuessesProcessed());
+        assertEquals(20_000, output.split("Поздравляем!", -1).length - 1);
+    }
+}
@@ -3,7 +3,14 @@ package ru.yandex.practicum;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,4 +64,73 @@ class WordleDictionaryLoaderTest {
                     "Word should be valid: " + word);
         }
     }
+
+    @Test
+    void testPlainDictionaryIsUnweighted() {
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(log);
+        WordleDictionary dictionary = loader.loadDictionary("words_ru.txt");
+
+        assertFalse(dictionary.isWeighted());
+        assertEquals(1.0, dictionary.getWeight(0));
+    }
+
+    @Test
+    void testLoadWeightedDictionary() throws IOException {
+        Path file = Files.createTempFile("words", ".txt");
+        Files.write(file, Arrays.asList("герой 10", "  Слово\t0.5 ", "книга", "а-ля фуршет", "ручка 0", "пирог x"),
+                StandardCharsets.UTF_8);
+        try {
+            WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary(file.toString());
+
+            assertTrue(dictionary.isWeighted());
+            assertEquals(Arrays.asList("герой", "слово", "книга", "ручка"), dictionary.getWords());
+            assertEquals(10.0, dictionary.getWeight(0));
+            assertEquals(0.5, dictionary.getWeight(1));
+            assertEquals(WordleDictionaryLoader.DEFAULT_WEIGHT, dictionary.getWeight(2));
+            assertEquals(0.0, dictionary.getWeight(3));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testWeightsOnSkippedLinesAreIgnored() throws IOException {
+        Path file = Files.createTempFile("words", ".txt");
+        Files.write(file, Arrays.asList("герой", "а-ля 5", "слово", "длинное 3"), StandardCharsets.UTF_8);
+        try {
+            WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary(file.toString());
+
+            assertFalse(dictionary.isWeighted());
+            assertEquals(Arrays.asList("герой", "слово"), dictionary.getWords());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testAllZeroWeightsFallBackToUniform() throws IOException {
+        Path file = Files.createTempFile("words", ".txt");
+        Files.write(file, Arrays.asList("герой 0", "слово 0", "книга 0"), StandardCharsets.UTF_8);
+        try {
+            WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary(file.toString());
+
+            assertTrue(dictionary.isWeighted());
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i < 200; i++) {
+                seen.add(dictionary.getRandomWord());
+            }
+            assertEquals(new HashSet<>(dictionary.getWords()), seen);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testParseWeight() {
+        assertEquals(123.0, WordleDictionaryLoader.parseWeight("x 123", 2, 5));
+        assertEquals(0.25, WordleDictionaryLoader.parseWeight("0.25", 0, 4), 1e-12);
+        assertEquals(-1, WordleDictionaryLoader.parseWeight(".", 0, 1));
+        assertEquals(-1, WordleDictionaryLoader.parseWeight("1.2.3", 0, 5));
+        assertEquals(-1, WordleDictionaryLoader.parseWeight("фуршет", 0, 6));
+    }
 }
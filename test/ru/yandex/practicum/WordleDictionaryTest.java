@@ -5,10 +5,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -118,6 +123,128 @@ class WordleDictionaryTest {
         assertFalse(WordleDictionary.isWinningHint("-----"));
     }
 
+    @Test
+    void testFeedbackCodeMatchesGenerateHint() {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка", "аааба", "баааа");
+        WordleDictionary dict = new WordleDictionary(words, log);
+        for (String guess : words) {
+            for (int i = 0; i < words.size(); i++) {
+                String answer = words.get(i);
+                String expected = WordleDictionary.generateHint(guess, answer);
+                assertEquals(expected, WordleDictionary.hintFromCode(WordleDictionary.feedbackCode(guess, answer)));
+                assertEquals(expected, WordleDictionary.hintFromCode(dict.feedbackCode(guess, i)));
+            }
+        }
+        assertEquals(WordleDictionary.WINNING_CODE, WordleDictionary.feedbackCode("герой", "герой"));
+    }
+
+    @Test
+    void testFeedbackCodeDoesNotAllocate() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка");
+        WordleDictionary dict = new WordleDictionary(words, log);
+        WordleDictionary compressed = WordleDictionary.compressed(words, null, Alphabet.RUSSIAN, log);
+        int calls = 200_000;
+        int sink = 0;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < calls; i++) {
+            String guess = words.get(i % words.size());
+            sink += WordleDictionary.feedbackCode(guess, words.get((i >> 3) % words.size()));
+            sink += dict.feedbackCode(guess, (i >> 5) % words.size());
+            sink += compressed.feedbackCode(guess, (i >> 4) % words.size());
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(sink > 0);
+        assertTrue(allocated < calls, "выделено байт: " + allocated);
+    }
+
+    @Test
+    void testGetWord() {
+        assertEquals("герой", dictionary.getWord(0));
+        assertEquals("ручка", dictionary.getWord(4));
+    }
+
+    @Test
+    void testSearchByPattern() {
+        List<String> found = dictionary.search(WordQuery.pattern("г?р?й")).collect(Collectors.toList());
+        assertEquals(Arrays.asList("герой"), found);
+
+        List<String> prefix = dictionary.search(WordQuery.pattern("Г")).collect(Collectors.toList());
+        assertEquals(Arrays.asList("герой", "гонец"), prefix);
+        assertEquals(2, dictionary.count(WordQuery.pattern("г____")));
+    }
+
+    @Test
+    void testSearchByLetters() {
+        WordQuery query = WordQuery.any().withLetters("к").withoutLetters("и");
+        assertEquals(Arrays.asList("ручка"), dictionary.search(query).collect(Collectors.toList()));
+
+        assertEquals(5, dictionary.count(WordQuery.any()));
+        assertEquals(0, dictionary.count(WordQuery.any().withLetters("z")));
+        assertEquals(3, dictionary.count(WordQuery.any().withoutLetters("ё")));
+    }
+
+    @Test
+    void testSearchIsLazy() {
+        WordleDictionary fullDict = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+        WordQuery query = WordQuery.pattern("к?н?а");
+
+        List<String> expected = fullDict.getWords().stream()
+                .filter(w -> w.charAt(0) == 'к' && w.charAt(2) == 'н' && w.charAt(4) == 'а')
+                .collect(Collectors.toList());
+        assertEquals(expected, fullDict.search(query).collect(Collectors.toList()));
+        assertEquals(expected.size(), fullDict.count(query));
+        assertEquals(expected.subList(1, 3), fullDict.search(query).skip(1).limit(2).collect(Collectors.toList()));
+
+        // Слова достаются из словаря по одному, а не списком всех совпадений.
+        AtomicInteger produced = new AtomicInteger();
+        Optional<String> first = fullDict.search(WordQuery.any()).peek(w -> produced.incrementAndGet()).findFirst();
+        assertEquals(fullDict.getWords().get(0), first.orElseThrow());
+        assertEquals(1, produced.get());
+        produced.set(0);
+        assertEquals(expected.subList(0, 2),
+                fullDict.search(query).peek(w -> produced.incrementAndGet()).limit(2).collect(Collectors.toList()));
+        assertTrue(produced.get() < expected.size() && produced.get() < fullDict.size(), "produced " + produced);
+    }
+
+    @Test
+    void testInvalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> WordQuery.pattern("слишком"));
+        assertThrows(IllegalArgumentException.class, () -> WordQuery.pattern(null));
+        assertThrows(IllegalArgumentException.class, () -> WordQuery.any().withLetters(null));
+        assertThrows(IllegalArgumentException.class, () -> WordQuery.any().withoutLetters(null));
+    }
+
+    @Test
+    void testWeightedSelection() {
+        List<String> words = Arrays.asList("герой", "слово", "книга");
+        WordleDictionary weighted = new WordleDictionary(words, new double[]{0, 1, 0}, log);
+
+        assertTrue(weighted.isWeighted());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("слово", weighted.getRandomWord());
+        }
+        Random random = new Random(3);
+        assertEquals("слово", weighted.chooseWeighted(words, random));
+        assertEquals("герой", weighted.chooseWeighted(Arrays.asList("герой"), random));
+        assertNull(weighted.chooseWeighted(Arrays.asList(), random));
+        assertThrows(IllegalArgumentException.class, () -> new WordleDictionary(words, new double[]{1}, log));
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(0, dictionary.indexOf("ГЕРОЙ"));
+        assertEquals(3, dictionary.indexOf("книга"));
+        assertEquals(-1, dictionary.indexOf("автор"));
+    }
+
     @Test
     void testFilterByHints() {
         Set<Character> excludedChars = new HashSet<>();
@@ -179,6 +306,49 @@ class WordleDictionaryTest {
         assertFalse(filtered.contains("герой"));
     }
 
+    @Test
+    void testPackedFilterMatchesScalar() throws WordleException {
+        List<String> words = Arrays.asList("герой", "гонец", "слово", "книга", "ручка",
+                "автор", "город", "гроза", "груша", "горка");
+        WordleDictionary packed = new WordleDictionary(words, log);
+        WordleDictionary scalar = new WordleDictionary(words, log);
+        assertTrue(packed.usePackedFilter(true));
+        scalar.usePackedFilter(false);
+
+        Random random = new Random(11);
+        for (int round = 0; round < 50; round++) {
+            WordleGame game = new WordleGame(packed, log, words.get(random.nextInt(words.size())));
+            for (int attempt = 0; attempt < 3 && !game.isGameOver(); attempt++) {
+                String guess = words.get(random.nextInt(words.size()));
+                if (game.getState().getUsedWords().contains(guess)) {
+                    continue;
+                }
+                game.makeGuess(guess);
+                GameState state = game.getState();
+                assertEquals(
+                        scalar.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                                state.getCorrectPositions(), state.getWrongPositions(), state.getUsedWords()),
+                        packed.filterByHints(state.getExcludedChars(), state.getRequiredChars(),
+                                state.getCorrectPositions(), state.getWrongPositions(), state.getUsedWords()));
+            }
+        }
+    }
+
+    @Test
+    void testPackedFilterRefusesUnnormalizedWords() {
+        WordleDictionary raw = new WordleDictionary(Arrays.asList("ёлочка", "ёжики"), log);
+        assertFalse(raw.usePackedFilter(true));
+
+        Set<Character> requiredChars = new HashSet<>(Arrays.asList('ж'));
+        @SuppressWarnings("unchecked")
+        Set<Character>[] wrongPositions = new HashSet[5];
+        for (int i = 0; i < 5; i++) {
+            wrongPositions[i] = new HashSet<>();
+        }
+        assertEquals(List.of("ёжики"), raw.filterByHints(new HashSet<>(), requiredChars,
+                new char[5], wrongPositions, new HashSet<>()));
+    }
+
     @Test
     void testEmptyDictionaryException() {
         WordleDictionary emptyDict = new WordleDictionary(Arrays.asList(), log);
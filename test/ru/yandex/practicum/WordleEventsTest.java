@@ -0,0 +1,75 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleEventsTest {
+
+    private static PrintWriter log;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @Test
+    void testGameLifecycleEventsAreRecorded() throws Exception {
+        Path file = Files.createTempFile("wordle", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("ru.yandex.practicum.DictionaryLoad");
+            recording.enable("ru.yandex.practicum.Guess");
+            recording.enable("ru.yandex.practicum.Suggestion");
+            recording.start();
+
+            WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary("words_ru.txt");
+            WordleGame game = new WordleGame(dictionary, log, "герой");
+            game.makeGuess("гонец");
+            assertThrows(WordNotFoundInDictionaryException.class, () -> game.makeGuess("абвгд"));
+            game.getSuggestion();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        RecordedEvent load = single(events, "ru.yandex.practicum.DictionaryLoad");
+        assertEquals("words_ru.txt", load.getString("file"));
+        assertTrue(load.getInt("wordsRead") > load.getInt("wordsKept"));
+
+        List<RecordedEvent> guesses = byName(events, "ru.yandex.practicum.Guess");
+        assertEquals(2, guesses.size());
+        assertEquals("+^-^-", guesses.get(0).getString("feedback"));
+        assertEquals(5, guesses.get(0).getInt("attemptsLeft"));
+        assertFalse(guesses.get(1).getBoolean("accepted"));
+
+        RecordedEvent suggestion = single(events, "ru.yandex.practicum.Suggestion");
+        assertEquals(load.getInt("wordsKept"), suggestion.getInt("candidatesBefore"));
+        assertTrue(suggestion.getInt("candidatesAfter") > 0);
+        assertEquals("random", suggestion.getString("strategy"));
+    }
+
+    private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> found = byName(events, name);
+        assertEquals(1, found.size());
+        return found.get(0);
+    }
+}
@@ -190,4 +190,41 @@ class WordleGameTest {
         
         assertTrue(fullGame.isGameOver() || attempts >= maxAttempts);
     }
+
+    @Test
+    void testHardModeDisabledByDefault() throws WordleException {
+        assertFalse(game.isHardMode());
+        game.makeGuess("гонец");
+        assertEquals("--^--", game.makeGuess("слово"));
+    }
+
+    @Test
+    void testHardModeRequiresCorrectPosition() throws WordleException {
+        game.setHardMode(true);
+        game.makeGuess("гонец");
+
+        HardModeViolationException e = assertThrows(HardModeViolationException.class,
+                () -> game.makeGuess("слово"));
+        assertTrue(e.getMessage().contains("'г'"));
+        assertEquals(5, game.getAttemptsLeft());
+    }
+
+    @Test
+    void testHardModeRequiresRevealedLetters() throws WordleException {
+        game.setHardMode(true);
+        game.makeGuess("книга");
+
+        assertThrows(HardModeViolationException.class, () -> game.makeGuess("ручка"));
+        assertThrows(HardModeViolationException.class, () -> game.makeGuess("гонец"));
+        assertEquals("+++++", game.makeGuess("герой"));
+    }
+
+    @Test
+    void testHardModeRejectsExcludedLetters() throws WordleException {
+        game.setHardMode(true);
+        game.makeGuess("гонец");
+
+        assertThrows(HardModeViolationException.class, () -> game.makeGuess("город"));
+        assertEquals("+++++", game.makeGuess("герой"));
+    }
 }
@@ -0,0 +1,103 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleMetricsTest {
+
+    private static PrintWriter log;
+
+    @BeforeAll
+    static void setUpAll() {
+        log = new PrintWriter(System.out, true);
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LongHistogram histogram = new LongHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 0.001);
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.13, "p50 = " + p50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 = " + p99);
+    }
+
+    @Test
+    void testHistogramBucketsCoverValues() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int bucket = LongHistogram.bucketOf(value);
+            assertTrue(LongHistogram.upperBoundOf(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(LongHistogram.upperBoundOf(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testHistogramConcurrentRecording() {
+        LongHistogram histogram = new LongHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(i -> histogram.record(i % 100));
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(99, histogram.getMax());
+    }
+
+    @Test
+    void testDisabledMetricsRecordNothing() {
+        WordleMetrics metrics = new WordleMetrics(false);
+        long start = metrics.start();
+        metrics.recordGuess(start, true);
+        metrics.recordContains(false);
+
+        assertEquals(0, start);
+        assertEquals(0, metrics.getGuessCount());
+        assertEquals(0, metrics.getContainsCount());
+    }
+
+    @Test
+    void testGameOperationsAreRecorded() throws WordleException {
+        WordleMetrics metrics = WordleMetrics.global();
+        assertTrue(metrics.isEnabled());
+        long guesses = metrics.getGuessCount();
+        long rejected = metrics.getRejectedGuessCount();
+        long suggestions = metrics.getSuggestionCount();
+        long filters = metrics.getFilterCount();
+
+        WordleDictionary dictionary = new WordleDictionary(Arrays.asList("герой", "слово", "книга"), log);
+        WordleGame game = new WordleGame(dictionary, log, "герой");
+        game.makeGuess("слово");
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.makeGuess("абвгд"));
+        game.getSuggestion();
+
+        assertTrue(metrics.getGuessCount() >= guesses + 1);
+        assertTrue(metrics.getRejectedGuessCount() >= rejected + 1);
+        assertTrue(metrics.getSuggestionCount() >= suggestions + 1);
+        assertTrue(metrics.getFilterCount() >= filters + 1);
+        assertTrue(metrics.dump().contains("guess.latency_ns.p99 "));
+    }
+
+    @Test
+    void testMBeanRegistration() throws Exception {
+        WordleMetrics.global().registerMBean();
+        WordleMetrics.global().registerMBean();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(WordleMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        assertNotNull(server.getAttribute(name, "GuessCount"));
+    }
+}